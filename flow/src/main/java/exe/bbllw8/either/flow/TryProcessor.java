@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either.flow;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import exe.bbllw8.either.CheckedFunction;
+import exe.bbllw8.either.Either;
+import exe.bbllw8.either.Failure;
+import exe.bbllw8.either.Left;
+import exe.bbllw8.either.Right;
+import exe.bbllw8.either.Try;
+
+/**
+ * {@link Flow.Processor} that maps each element through a {@link CheckedFunction} and emits
+ * the outcome as a {@link Try} (or an {@link Either}) instead of terminating the stream when
+ * the function throws.
+ * <p>
+ * The processor honours the demand of its subscriber and requests elements from its upstream
+ * publisher in batches: at most <code>bufferSize</code> elements are requested ahead of the
+ * downstream demand, and more are requested once half of them have been emitted. No method of
+ * the processor blocks.
+ * <p>
+ * With {@link #mapAsync(CheckedFunction, Executor, int)} the function is applied on the given
+ * executor, with at most <code>maxConcurrency</code> elements being mapped or waiting to be
+ * emitted at the same time. The outcomes are emitted in the order of the elements.
+ * <p>
+ * Errors and completion of the upstream publisher are forwarded once all the elements received
+ * before them have been emitted. If the function that maps a failure to the left value of an
+ * {@link Either} throws, the upstream subscription is cancelled and the exception is signalled
+ * with <code>onError</code> once the elements received before it have been emitted. The
+ * processor supports a single subscriber.
+ *
+ * @param <T> Type of the received elements
+ * @param <U> Type of the emitted outcomes
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class TryProcessor<T, U> implements Flow.Processor<T, U> {
+
+    private final Mapper<T, U> mapper;
+    private final Runnable drain = this::drain;
+    private final int capacity;
+    private final int replenish;
+
+    private final Queue<Slot<U>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super U> downstream;
+    private volatile boolean done;
+    private volatile Throwable error;
+    private volatile Throwable invalidRequest;
+    private volatile boolean cancelled;
+
+    /**
+     * Number of elements emitted since the last request to the upstream publisher. Accessed
+     * only within {@link #drain()}.
+     */
+    private int consumed;
+
+    private TryProcessor(Mapper<T, U> mapper, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.mapper = mapper;
+        this.capacity = capacity;
+        this.replenish = Math.max(1, capacity / 2);
+    }
+
+    /**
+     * Returns a processor that applies the given function to each element on the thread that
+     * delivers it, buffering up to {@link Flow#defaultBufferSize()} elements.
+     *
+     * @since 3.5.0
+     */
+    public static <T, R> TryProcessor<T, Try<R>> map(CheckedFunction<T, R> function) {
+        return map(function, Flow.defaultBufferSize());
+    }
+
+    /**
+     * Returns a processor that applies the given function to each element on the thread that
+     * delivers it.
+     *
+     * @param function   The function applied to each element
+     * @param bufferSize The maximum number of elements requested ahead of the downstream demand
+     * @throws IllegalArgumentException if the buffer size is not positive
+     * @since 3.5.0
+     */
+    public static <T, R> TryProcessor<T, Try<R>> map(CheckedFunction<T, R> function,
+                                                      int bufferSize) {
+        Objects.requireNonNull(function);
+        return new TryProcessor<>((t, onReady) -> new Slot<>(Try.from(t, function)),
+                bufferSize);
+    }
+
+    /**
+     * Returns a processor that applies the given function to each element on the thread that
+     * delivers it and emits a {@link Right} holding the result or a {@link Left} holding the
+     * throwable mapped with <code>onFailure</code>.
+     *
+     * @since 3.5.0
+     */
+    public static <T, E, R> TryProcessor<T, Either<E, R>> mapToEither(
+            CheckedFunction<T, R> function, Function<Throwable, E> onFailure) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(onFailure);
+        return new TryProcessor<>((t, onReady) -> new Slot<>(toEither(
+                Try.from(t, function), onFailure)), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Returns a processor that applies the given function to the elements on the given
+     * executor, mapping up to <code>maxConcurrency</code> elements at the same time.
+     *
+     * @param function       The function applied to each element
+     * @param executor       The executor that runs the function
+     * @param maxConcurrency The maximum number of elements being mapped or waiting to be emitted
+     * @throws IllegalArgumentException if the maximum concurrency is not positive
+     * @since 3.5.0
+     */
+    public static <T, R> TryProcessor<T, Try<R>> mapAsync(CheckedFunction<T, R> function,
+                                                           Executor executor,
+                                                           int maxConcurrency) {
+        return mapAsync(function, Function.identity(), executor, maxConcurrency);
+    }
+
+    /**
+     * Returns a processor that applies the given function to the elements on the given
+     * executor, mapping up to <code>maxConcurrency</code> elements at the same time, and emits
+     * a {@link Right} holding the result or a {@link Left} holding the throwable mapped with
+     * <code>onFailure</code>.
+     *
+     * @see #mapAsync(CheckedFunction, Executor, int)
+     * @since 3.5.0
+     */
+    public static <T, E, R> TryProcessor<T, Either<E, R>> mapToEitherAsync(
+            CheckedFunction<T, R> function, Function<Throwable, E> onFailure, Executor executor,
+            int maxConcurrency) {
+        Objects.requireNonNull(onFailure);
+        return mapAsync(function, t -> toEither(t, onFailure), executor, maxConcurrency);
+    }
+
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    private static <T, R, U> TryProcessor<T, U> mapAsync(CheckedFunction<T, R> function,
+                                                         Function<Try<R>, U> finisher,
+                                                         Executor executor,
+                                                         int maxConcurrency) {
+        Objects.requireNonNull(function);
+        Objects.requireNonNull(executor);
+        return new TryProcessor<>((t, onReady) -> {
+            final Slot<U> slot = new Slot<>(null);
+            try {
+                executor.execute(() -> {
+                    try {
+                        slot.value = finisher.apply(Try.from(t, function));
+                    } catch (Throwable e) {
+                        // Thrown by the finisher: terminate the stream instead of waiting for
+                        // an outcome that will never be set
+                        slot.error = e;
+                    }
+                    onReady.run();
+                });
+            } catch (RuntimeException e) {
+                // Rejected by the executor
+                slot.value = finisher.apply(new Failure<>(e));
+            }
+            return slot;
+        }, maxConcurrency);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super U> subscriber) {
+        Objects.requireNonNull(subscriber);
+        final boolean first;
+        synchronized (this) {
+            first = downstream == null;
+            if (first) {
+                downstream = subscriber;
+            }
+        }
+        if (!first) {
+            subscriber.onSubscribe(Cancelled.INSTANCE);
+            subscriber.onError(new IllegalStateException(
+                    "TryProcessor supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    invalidRequest = new IllegalArgumentException("Non-positive request: " + n);
+                    final Flow.Subscription subscription = upstream;
+                    if (subscription != null) {
+                        subscription.cancel();
+                    }
+                } else {
+                    addRequested(n);
+                }
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                if (!cancelled) {
+                    cancelled = true;
+                    final Flow.Subscription subscription = upstream;
+                    if (subscription != null) {
+                        subscription.cancel();
+                    }
+                    drain();
+                }
+            }
+        });
+        start();
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+        }
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            start();
+        }
+    }
+
+    @Override
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+        if (!done && !cancelled) {
+            Slot<U> slot;
+            try {
+                slot = mapper.map(item, drain);
+            } catch (Throwable e) {
+                // Thrown by the onFailure function: signal it with onError once the elements
+                // received before this one have been emitted, rather than from onNext
+                slot = new Slot<>(null);
+                slot.error = e;
+            }
+            queue.offer(slot);
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    /**
+     * Requests the first batch of elements once both the upstream and the downstream are
+     * subscribed.
+     */
+    private void start() {
+        final Flow.Subscription subscription = upstream;
+        if (subscription != null && downstream != null && started.compareAndSet(false, true)) {
+            subscription.request(capacity);
+        }
+    }
+
+    private void addRequested(long n) {
+        long current;
+        long next;
+        do {
+            current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return;
+            }
+            next = current + n;
+            if (next < 0) {
+                // Overflow: unbounded demand
+                next = Long.MAX_VALUE;
+            }
+        } while (!requested.compareAndSet(current, next));
+    }
+
+    /**
+     * Emits the completed outcomes at the head of the queue as long as there is demand. Only
+     * one thread drains at a time: the others record that the state has changed and leave.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            final Flow.Subscriber<? super U> subscriber = downstream;
+            if (cancelled) {
+                queue.clear();
+            } else if (invalidRequest != null) {
+                cancelled = true;
+                queue.clear();
+                subscriber.onError(invalidRequest);
+            } else if (subscriber != null) {
+                final long demand = requested.get();
+                long emitted = 0L;
+                while (emitted != demand && !cancelled) {
+                    final Slot<U> slot = queue.peek();
+                    if (slot == null || slot.value == null) {
+                        break;
+                    }
+                    queue.poll();
+                    subscriber.onNext(slot.value);
+                    emitted++;
+                    if (++consumed >= replenish) {
+                        final int n = consumed;
+                        consumed = 0;
+                        if (!done) {
+                            upstream.request(n);
+                        }
+                    }
+                }
+                if (emitted != 0L && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                final Slot<U> head = queue.peek();
+                if (head != null && head.error != null && !cancelled) {
+                    // The outcome of the next element could not be computed
+                    cancelled = true;
+                    queue.clear();
+                    final Flow.Subscription subscription = upstream;
+                    if (subscription != null) {
+                        subscription.cancel();
+                    }
+                    subscriber.onError(head.error);
+                }
+
+                if (done && queue.isEmpty() && !cancelled) {
+                    cancelled = true;
+                    final Throwable t = error;
+                    if (t == null) {
+                        subscriber.onComplete();
+                    } else {
+                        subscriber.onError(t);
+                    }
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private static <R, E> Either<E, R> toEither(Try<R> t, Function<Throwable, E> onFailure) {
+        return t.isSuccess()
+                ? Either.right(t.get())
+                : Either.left(onFailure.apply(t.failed().get()));
+    }
+
+    /**
+     * Maps an element to the slot of its outcome.
+     */
+    @FunctionalInterface
+    private interface Mapper<T, U> {
+
+        /**
+         * @param item    The element to be mapped
+         * @param onReady Callback to be invoked if the outcome is set after returning
+         */
+        Slot<U> map(T item, Runnable onReady);
+    }
+
+    /**
+     * Outcome of an element: <code>null</code> until the element has been mapped, unless the
+     * outcome could not be computed, in which case the error is set instead.
+     */
+    private static final class Slot<U> {
+
+        private volatile U value;
+        private volatile Throwable error;
+
+        private Slot(U value) {
+            this.value = value;
+        }
+    }
+
+    private static final class Cancelled implements Flow.Subscription {
+
+        private static final Cancelled INSTANCE = new Cancelled();
+
+        @Override
+        public void request(long n) {
+            // Do nothing
+        }
+
+        @Override
+        public void cancel() {
+            // Do nothing
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either.flow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import exe.bbllw8.either.Either;
+import exe.bbllw8.either.Left;
+import exe.bbllw8.either.Right;
+import exe.bbllw8.either.Success;
+import exe.bbllw8.either.Try;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TryProcessorTest {
+
+    @Test
+    public void mapsEachElement() throws InterruptedException {
+        final TryProcessor<String, Try<Integer>> processor = TryProcessor.map(Integer::parseInt);
+        final Collector<Try<Integer>> collector = new Collector<>(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            publisher.submit("1");
+            publisher.submit("x");
+            publisher.submit("3");
+        }
+        collector.await();
+        Assert.assertEquals(3, collector.items.size());
+        Assert.assertEquals(new Success<>(1), collector.items.get(0));
+        Assert.assertTrue("Errors should not terminate the stream",
+                collector.items.get(1).isFailure());
+        Assert.assertEquals(new Success<>(3), collector.items.get(2));
+        Assert.assertTrue(collector.completed);
+    }
+
+    @Test
+    public void mapToEither() throws InterruptedException {
+        final TryProcessor<String, Either<String, Integer>> processor = TryProcessor.mapToEither(
+                Integer::parseInt, t -> t.getClass().getSimpleName());
+        final Collector<Either<String, Integer>> collector = new Collector<>(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            publisher.submit("1");
+            publisher.submit("x");
+        }
+        collector.await();
+        Assert.assertEquals(Arrays.asList(new Right<>(1), new Left<>("NumberFormatException")),
+                collector.items);
+    }
+
+    @Test
+    public void mapToEitherThrowingOnFailure() {
+        final TryProcessor<String, Either<String, Integer>> processor = TryProcessor.mapToEither(
+                Integer::parseInt, t -> {
+                    throw new IllegalStateException("onFailure");
+                });
+        final Upstream upstream = new Upstream();
+        final Collector<Either<String, Integer>> collector = new Collector<>(Long.MAX_VALUE);
+        processor.subscribe(collector);
+        processor.onSubscribe(upstream);
+        processor.onNext("1");
+        processor.onNext("x");
+        processor.onNext("3");
+        Assert.assertEquals("The elements before the error should be emitted",
+                Arrays.asList(new Right<>(1)),
+                collector.items);
+        Assert.assertEquals("The exception should be signalled with onError",
+                "onFailure",
+                collector.error.getMessage());
+        Assert.assertTrue("The upstream should be cancelled", upstream.cancelled);
+    }
+
+    @Test
+    public void mapToEitherAsyncThrowingOnFailure() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final TryProcessor<String, Either<String, Integer>> processor =
+                    TryProcessor.mapToEitherAsync(Integer::parseInt, t -> {
+                        throw new IllegalStateException("onFailure");
+                    }, executor, 2);
+            final Collector<Either<String, Integer>> collector = new Collector<>(Long.MAX_VALUE);
+            processor.subscribe(collector);
+            try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(processor);
+                publisher.submit("1");
+                publisher.submit("x");
+                publisher.submit("3");
+            }
+            collector.await();
+            Assert.assertEquals("The exception should be signalled with onError",
+                    "onFailure",
+                    collector.error.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void honoursDemand() {
+        final TryProcessor<Integer, Try<Integer>> processor = TryProcessor.map(x -> x, 4);
+        final Upstream upstream = new Upstream();
+        final Collector<Try<Integer>> collector = new Collector<>(2);
+        processor.subscribe(collector);
+        processor.onSubscribe(upstream);
+        Assert.assertEquals("The first batch should be requested",
+                Arrays.asList(4L), upstream.requests);
+
+        IntStream.range(0, 4).forEach(processor::onNext);
+        Assert.assertEquals("Only the requested elements should be emitted",
+                2, collector.items.size());
+        Assert.assertEquals("More elements should be requested once half are emitted",
+                Arrays.asList(4L, 2L), upstream.requests);
+
+        collector.subscription.request(2);
+        Assert.assertEquals(4, collector.items.size());
+        Assert.assertEquals(Arrays.asList(4L, 2L, 2L), upstream.requests);
+    }
+
+    @Test
+    public void forwardsErrorAfterElements() {
+        final TryProcessor<Integer, Try<Integer>> processor = TryProcessor.map(x -> x);
+        final Upstream upstream = new Upstream();
+        final Collector<Try<Integer>> collector = new Collector<>(0);
+        processor.subscribe(collector);
+        processor.onSubscribe(upstream);
+        processor.onNext(1);
+        processor.onError(new IllegalStateException());
+        Assert.assertNull("The error should wait for the buffered elements", collector.error);
+
+        collector.subscription.request(1);
+        Assert.assertEquals(Arrays.asList(new Success<>(1)), collector.items);
+        Assert.assertTrue(collector.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void cancel() {
+        final TryProcessor<Integer, Try<Integer>> processor = TryProcessor.map(x -> x);
+        final Upstream upstream = new Upstream();
+        final Collector<Try<Integer>> collector = new Collector<>(1);
+        processor.subscribe(collector);
+        processor.onSubscribe(upstream);
+        collector.subscription.cancel();
+        Assert.assertTrue("The upstream should be cancelled", upstream.cancelled);
+        processor.onNext(1);
+        Assert.assertTrue("No element should be emitted", collector.items.isEmpty());
+    }
+
+    @Test
+    public void invalidRequest() {
+        final TryProcessor<Integer, Try<Integer>> processor = TryProcessor.map(x -> x);
+        final Upstream upstream = new Upstream();
+        final Collector<Try<Integer>> collector = new Collector<>(0);
+        processor.subscribe(collector);
+        processor.onSubscribe(upstream);
+        collector.subscription.request(0);
+        Assert.assertTrue(collector.error instanceof IllegalArgumentException);
+        Assert.assertTrue("The upstream should be cancelled", upstream.cancelled);
+    }
+
+    @Test
+    public void singleSubscriber() {
+        final TryProcessor<Integer, Try<Integer>> processor = TryProcessor.map(x -> x);
+        processor.subscribe(new Collector<>(0));
+        final Collector<Try<Integer>> second = new Collector<>(0);
+        processor.subscribe(second);
+        Assert.assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void mapAsyncKeepsOrderAndBoundsConcurrency() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final TryProcessor<Integer, Try<Integer>> processor = TryProcessor.mapAsync(x -> {
+                final int now = running.incrementAndGet();
+                maxRunning.accumulateAndGet(now, Math::max);
+                Thread.sleep(x % 3);
+                running.decrementAndGet();
+                if (x % 10 == 0) {
+                    throw new IllegalArgumentException();
+                }
+                return x;
+            }, executor, 3);
+            final Collector<Try<Integer>> collector = new Collector<>(Long.MAX_VALUE);
+            processor.subscribe(collector);
+            try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+                publisher.subscribe(processor);
+                IntStream.range(1, 50).forEach(publisher::submit);
+            }
+            collector.await();
+
+            Assert.assertEquals(49, collector.items.size());
+            for (int i = 0; i < 49; i++) {
+                final int x = i + 1;
+                Assert.assertEquals("The elements should be emitted in order",
+                        x % 10 == 0 ? -1 : x,
+                        (int) collector.items.get(i).getOrElse(-1));
+            }
+            Assert.assertTrue("At most 3 elements should be mapped at the same time",
+                    maxRunning.get() <= 3);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class Upstream implements Flow.Subscription {
+
+        private final List<Long> requests = new ArrayList<>();
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requests.add(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class Collector<T> implements Flow.Subscriber<T> {
+
+        private final long initialRequest;
+        private final List<T> items = new ArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        private Collector(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            synchronized (items) {
+                items.add(item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        private void await() throws InterruptedException {
+            Assert.assertTrue("The stream should terminate",
+                    terminated.await(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Counts {@link Try} outcomes from eight threads with a synchronized map and with an
+ * {@link OutcomeAggregator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Threads(8)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AggregatorBenchmark {
+
+    private final Try<Integer> success = new Success<>(1);
+    private final Try<Integer> failure = new Failure<>(new IllegalStateException());
+
+    private final Map<String, Long> counts = new HashMap<>();
+    private final OutcomeAggregator aggregator = new OutcomeAggregator();
+
+    @Benchmark
+    public void synchronizedMap() {
+        synchronized (counts) {
+            counts.merge("success", 1L, Long::sum);
+        }
+        synchronized (counts) {
+            counts.merge("failure", 1L, Long::sum);
+            counts.merge(((Failure<?>) failure).throwable().getClass().getName(), 1L,
+                    Long::sum);
+        }
+    }
+
+    @Benchmark
+    public void aggregator() {
+        aggregator.accept(success);
+        aggregator.accept(failure);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applies a function to a batch of elements with one {@link Try#from(CheckedSupplier)} per
+ * element and with {@link TryArray#map(Object[], CheckedFunction)}. Run it with
+ * <code>-prof gc</code> to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchBenchmark {
+
+    private static final int SIZE = 4096;
+
+    /**
+     * Percentage of the elements that cannot be parsed.
+     */
+    @Param({"0", "1"})
+    public int failurePercentage;
+
+    private String[] elements;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(SIZE);
+        elements = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            elements[i] = random.nextInt(100) < failurePercentage
+                    ? "x" + i
+                    : Integer.toString(random.nextInt(100_000));
+        }
+    }
+
+    @Benchmark
+    public List<Try<Integer>> tryFrom() {
+        final List<Try<Integer>> results = new ArrayList<>(SIZE);
+        for (final String element : elements) {
+            results.add(Try.from(() -> Integer.parseInt(element)));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public TryArray<Integer> tryArray() {
+        return TryArray.map(elements, Integer::parseInt);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round trips of a batch of {@link Either} and {@link Try} values through {@link EitherCodec}
+ * and {@link TryCodec}, compared with Java serialization of an equivalent serializable
+ * representation (Either and Try are not serializable).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodecBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final EitherCodec<String, Long> eitherCodec = new EitherCodec<>(Codec.strings(),
+            Codec.longs());
+    private final TryCodec<Long> tryCodec = new TryCodec<>(Codec.longs());
+    private final ThrowableCodec throwableCodec = new ThrowableCodec();
+    private final TryCodec<Long> tryStackTraceCodec = new TryCodec<>(Codec.longs(),
+            throwableCodec);
+
+    private List<Either<String, Long>> eithers;
+    private List<Try<Long>> tries;
+    private ArrayList<Element> elements;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(SIZE);
+        eithers = new ArrayList<>(SIZE);
+        tries = new ArrayList<>(SIZE);
+        elements = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            final long value = random.nextLong();
+            if (random.nextInt(10) == 0) {
+                eithers.add(new Left<>("error " + i));
+                tries.add(new Failure<>(new IllegalArgumentException("error " + i)));
+                elements.add(new Element(false, "error " + i));
+            } else {
+                eithers.add(new Right<>(value));
+                tries.add(new Success<>(value));
+                elements.add(new Element(true, value));
+            }
+        }
+        buffer = ByteBuffer.allocate(64 * SIZE);
+    }
+
+    @Benchmark
+    public int eitherCodec() throws IOException {
+        buffer.clear();
+        for (final Either<String, Long> either : eithers) {
+            eitherCodec.encode(either, buffer);
+        }
+        buffer.flip();
+        int rights = 0;
+        while (buffer.hasRemaining()) {
+            if (eitherCodec.decode(buffer).isRight()) {
+                rights++;
+            }
+        }
+        return rights;
+    }
+
+    @Benchmark
+    public int tryCodec() throws IOException {
+        buffer.clear();
+        for (final Try<Long> t : tries) {
+            tryCodec.encode(t, buffer);
+        }
+        buffer.flip();
+        int successes = 0;
+        while (buffer.hasRemaining()) {
+            if (tryCodec.decode(buffer).isSuccess()) {
+                successes++;
+            }
+        }
+        return successes;
+    }
+
+    @Benchmark
+    public int tryCodecWithStackTraces() throws IOException {
+        throwableCodec.reset();
+        buffer.clear();
+        for (final Try<Long> t : tries) {
+            tryStackTraceCodec.encode(t, buffer);
+        }
+        buffer.flip();
+        int successes = 0;
+        while (buffer.hasRemaining()) {
+            if (tryStackTraceCodec.decode(buffer).isSuccess()) {
+                successes++;
+            }
+        }
+        return successes;
+    }
+
+    @Benchmark
+    public int javaSerialization() throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * SIZE);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(elements);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            return ((List<?>) in.readObject()).size();
+        }
+    }
+
+    /**
+     * Serializable equivalent of an {@link Either} value.
+     */
+    private static final class Element implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final boolean right;
+        private final Object value;
+
+        private Element(boolean right, Object value) {
+            this.right = right;
+            this.value = value;
+        }
+    }
+}
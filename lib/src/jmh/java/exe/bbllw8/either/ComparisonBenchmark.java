@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the same workload with {@link Try}, {@link Either}, thrown and caught exceptions,
+ * {@link Optional} and int error codes.
+ * <p>
+ * Each element of a batch goes through a chain of <code>depth</code> steps that fail on
+ * invalid elements; a failed chain is replaced by a fallback value. The
+ * <code>failureRate</code> is the percentage of invalid elements, which are shuffled in the
+ * batch so that branches cannot be predicted. Scores are per element.
+ * <p>
+ * The {@link Try} chain is built with {@link Try#from(Object, CheckedFunction)},
+ * {@link Try#map(CheckedFunction)} and {@link Try#recover(java.util.function.Function)} and its
+ * steps throw like the ones of the exception chain, while the {@link Either} and
+ * {@link Optional} chains return their failures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ComparisonBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final int FALLBACK = -1;
+    private static final int ERROR_CODE = -1;
+    private static final String ERROR = "invalid";
+
+    @Param({"0", "1", "10", "50", "100"})
+    public int failureRate;
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    private final int[] inputs = new int[SIZE];
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        final int invalid = SIZE * failureRate / 100;
+        for (int i = 0; i < SIZE; i++) {
+            final int value = random.nextInt(1000);
+            inputs[i] = i < invalid ? -1 - value : value;
+        }
+        // Fisher-Yates shuffle of the invalid elements
+        for (int i = SIZE - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final int tmp = inputs[i];
+            inputs[i] = inputs[j];
+            inputs[j] = tmp;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long tryChain() {
+        long sum = 0L;
+        for (final int input : inputs) {
+            Try<Integer> result = Try.from(input, ComparisonBenchmark::stepOrThrow);
+            for (int d = 1; d < depth; d++) {
+                result = result.map(ComparisonBenchmark::stepOrThrow);
+            }
+            sum += result.recover(t -> FALLBACK).get();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long eitherChain() {
+        long sum = 0L;
+        for (final int input : inputs) {
+            Either<String, Integer> result = stepEither(input);
+            for (int d = 1; d < depth; d++) {
+                result = result.flatMap(ComparisonBenchmark::stepEither);
+            }
+            sum += result.fold(error -> FALLBACK, value -> value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long exceptions() {
+        long sum = 0L;
+        for (final int input : inputs) {
+            try {
+                int value = input;
+                for (int d = 0; d < depth; d++) {
+                    value = stepOrThrow(value);
+                }
+                sum += value;
+            } catch (IllegalArgumentException e) {
+                sum += FALLBACK;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long optionalChain() {
+        long sum = 0L;
+        for (final int input : inputs) {
+            Optional<Integer> result = stepOptional(input);
+            for (int d = 1; d < depth; d++) {
+                result = result.flatMap(ComparisonBenchmark::stepOptional);
+            }
+            sum += result.orElse(FALLBACK);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long errorCodes() {
+        long sum = 0L;
+        for (final int input : inputs) {
+            int value = input;
+            for (int d = 0; d < depth && value != ERROR_CODE; d++) {
+                value = stepCode(value);
+            }
+            sum += value == ERROR_CODE ? FALLBACK : value;
+        }
+        return sum;
+    }
+
+    private static int stepOrThrow(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(ERROR);
+        }
+        return value + 1;
+    }
+
+    private static Either<String, Integer> stepEither(int value) {
+        return value < 0
+                ? Either.left(ERROR)
+                : Either.right(value + 1);
+    }
+
+    private static Optional<Integer> stepOptional(int value) {
+        return value < 0
+                ? Optional.empty()
+                : Optional.of(value + 1);
+    }
+
+    private static int stepCode(int value) {
+        return value < 0
+                ? ERROR_CODE
+                : value + 1;
+    }
+}
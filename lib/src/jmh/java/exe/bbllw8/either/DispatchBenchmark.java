@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ways of dispatching on the two cases of {@link Either} and {@link Try}: virtual
+ * calls, <code>instanceof</code> checks and pattern matching <code>switch</code>.
+ * <p>
+ * Run it with the <code>jmh</code> task to use the sealed classes of the multi-release jar and
+ * with the <code>jmhFlat</code> task to use the classes of the Java 8 layout.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DispatchBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final Function<Integer, Integer> IDENTITY = x -> x;
+    private static final Function<Throwable, Integer> ZERO = t -> 0;
+
+    /**
+     * Percentage of the elements that are {@link Left} or {@link Failure}.
+     */
+    @Param({"1", "50"})
+    public int leftPercentage;
+
+    private Either<Integer, Integer>[] eithers;
+    private Either<Integer, Either<Integer, Integer>>[] nestedEithers;
+    private Try<Integer>[] tries;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        final Random random = new Random(SIZE);
+        eithers = new Either[SIZE];
+        nestedEithers = new Either[SIZE];
+        tries = new Try[SIZE];
+        final Throwable error = new IOException();
+        for (int i = 0; i < SIZE; i++) {
+            final int value = random.nextInt();
+            if (random.nextInt(100) < leftPercentage) {
+                eithers[i] = new Left<>(value);
+                nestedEithers[i] = new Left<>(value);
+                tries[i] = new Failure<>(error);
+            } else {
+                eithers[i] = new Right<>(value);
+                nestedEithers[i] = new Right<>(new Right<>(value));
+                tries[i] = new Success<>(value);
+            }
+        }
+    }
+
+    @Benchmark
+    public int eitherFold() {
+        int sum = 0;
+        for (final Either<Integer, Integer> either : eithers) {
+            sum += either.fold(IDENTITY, IDENTITY);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int eitherInstanceOf() {
+        int sum = 0;
+        for (final Either<Integer, Integer> either : eithers) {
+            if (either instanceof Left<Integer, Integer> left) {
+                sum += left.left().getOrElse(0);
+            } else {
+                sum += either.getOrElse(0);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int eitherSwitch() {
+        int sum = 0;
+        for (final Either<Integer, Integer> either : eithers) {
+            sum += switch (either) {
+                case Left<Integer, Integer> left -> left.left().getOrElse(0);
+                case Right<Integer, Integer> right -> right.getOrElse(0);
+            };
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int eitherJoinRight() {
+        int sum = 0;
+        for (final Either<Integer, Either<Integer, Integer>> either : nestedEithers) {
+            sum += Either.joinRight(either).getOrElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int tryFold() {
+        int sum = 0;
+        for (final Try<Integer> t : tries) {
+            sum += t.fold(ZERO, IDENTITY);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int tryInstanceOf() {
+        int sum = 0;
+        for (final Try<Integer> t : tries) {
+            if (t instanceof Success<Integer> success) {
+                sum += success.get();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int trySwitch() {
+        int sum = 0;
+        for (final Try<Integer> t : tries) {
+            sum += switch (t) {
+                case Success<Integer> success -> success.get();
+                case Failure<Integer> failure -> 0;
+            };
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost paid by the threads that produce failures when logging them: formatting
+ * and writing synchronously, or handing them to an {@link AsyncFailureLogger}. Both write to a
+ * null output stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Threads(4)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FailureLoggingBenchmark {
+
+    private final Try<Integer> failure = new Failure<>(new IllegalStateException("Oops"));
+
+    private PrintWriter printer;
+    private AsyncFailureLogger logger;
+
+    @Setup
+    public void setup() {
+        printer = new PrintWriter(OutputStream.nullOutputStream());
+        logger = new AsyncFailureLogger(Channels.newChannel(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        logger.close();
+        printer.close();
+    }
+
+    @Benchmark
+    public void synchronous() {
+        synchronized (printer) {
+            printer.print("Failure: ");
+            failure.failed().get().printStackTrace(printer);
+            printer.flush();
+        }
+    }
+
+    @Benchmark
+    public boolean async() {
+        return logger.offer(failure);
+    }
+}
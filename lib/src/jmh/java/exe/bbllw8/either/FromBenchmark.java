@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a string with {@link Try#from(CheckedSupplier)} and a capturing lambda and with
+ * {@link Try#from(Object, CheckedFunction)} and a method reference, and maps a {@link Success}.
+ * Run with <code>-Pjmh.profilers=gc</code> to compare the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FromBenchmark {
+
+    public String input = "1000000";
+
+    private final Try<String> success = new Success<>("1000000");
+
+    @Benchmark
+    public Try<Integer> capturingLambda() {
+        final String s = input;
+        return Try.from(() -> Integer.parseInt(s));
+    }
+
+    @Benchmark
+    public Try<Integer> argument() {
+        return Try.from(input, Integer::parseInt);
+    }
+
+    @Benchmark
+    public Try<Integer> successMap() {
+        return success.map(Integer::parseInt);
+    }
+}
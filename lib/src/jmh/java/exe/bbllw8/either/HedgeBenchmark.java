@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of a {@link Hedge} whose primary supplier completes before the delay,
+ * compared with invoking the supplier directly with {@link Try#from(CheckedSupplier)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HedgeBenchmark {
+
+    private final CheckedSupplier<Long> supplier = System::nanoTime;
+
+    private final Hedge<Long> hedge = Hedge.builder(supplier, Duration.ofMillis(10))
+            .backup(supplier)
+            .build();
+
+    @Benchmark
+    public Try<Long> direct() {
+        return Try.from(supplier);
+    }
+
+    @Benchmark
+    public Try<Long> hedged() {
+        return hedge.get();
+    }
+}
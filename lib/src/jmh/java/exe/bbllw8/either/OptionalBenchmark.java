@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Converts {@link Either} and {@link Try} values to {@link Optional}s. Run with
+ * <code>-Pjmh.profilers=gc</code> to compare the bytes allocated per operation of the
+ * conversions that reuse existing instances with the ones that allocate a new optional.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OptionalBenchmark {
+
+    private Either<String, Integer> canonicalRight;
+    private Either<String, Integer> right;
+    private Either<Integer, String> left;
+    private Try<Integer> success;
+
+    @Setup
+    public void setup() {
+        canonicalRight = Either.right(12);
+        right = Either.right(1_000_000);
+        left = Either.left(1_000_000);
+        success = Try.success(1_000_000);
+    }
+
+    @Benchmark
+    public Optional<Integer> rightToOptionalCanonical() {
+        return canonicalRight.toOptional();
+    }
+
+    @Benchmark
+    public Optional<Integer> rightToOptional() {
+        return right.toOptional();
+    }
+
+    @Benchmark
+    public Optional<Either<Integer, String>> filterToOptional() {
+        return left.left().filterToOptional(x -> x > 0);
+    }
+
+    @Benchmark
+    public Optional<Integer> tOptionalMap() {
+        return success.tOptional().map(x -> x * 2);
+    }
+
+    @Benchmark
+    public OptionalInt toOptionalInt() {
+        return success.toOptionalInt(x -> x * 2);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applies a chain of distinct stages composed with nested lambdas and with a {@link Pipeline}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PipelineBenchmark {
+
+    @Param({"5", "20"})
+    public int stages;
+
+    public long input = 42L;
+
+    private CheckedFunction<Long, Long> nested;
+    private Pipeline<Long, Long> pipeline;
+
+    @Setup
+    public void setup() {
+        nested = x -> x;
+        pipeline = Pipeline.identity();
+        for (int i = 0; i < stages; i++) {
+            final CheckedFunction<Long, Long> stage = stage(i);
+            final CheckedFunction<Long, Long> previous = nested;
+            nested = x -> stage.apply(previous.apply(x));
+            pipeline = pipeline.andThen(stage);
+        }
+    }
+
+    @Benchmark
+    public Try<Long> nestedLambdas() {
+        return Try.from(input, nested);
+    }
+
+    @Benchmark
+    public Try<Long> pipeline() {
+        return pipeline.run(input);
+    }
+
+    /**
+     * @return Returns a stage with its own class, so that the call sites are megamorphic.
+     */
+    private static CheckedFunction<Long, Long> stage(int i) {
+        switch (i % 4) {
+            case 0:
+                return x -> x + 1;
+            case 1:
+                return x -> x * 3;
+            case 2:
+                return x -> x ^ 0x5bd1e995L;
+            default:
+                return x -> x >>> 1;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recovers from a {@link Failure} whose throwable matches the last of eight handlers, with a
+ * cascade of <code>instanceof</code> checks and with a {@link Recovery}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecoveryBenchmark {
+
+    private final Try<Integer> failure = new Failure<>(new NumberFormatException());
+
+    private final Function<Throwable, Try<Integer>> cascade = t -> {
+        if (t instanceof FileNotFoundException) {
+            return new Success<>(1);
+        } else if (t instanceof EOFException) {
+            return new Success<>(2);
+        } else if (t instanceof IOException) {
+            return new Success<>(3);
+        } else if (t instanceof UncheckedIOException) {
+            return new Success<>(4);
+        } else if (t instanceof TimeoutException) {
+            return new Success<>(5);
+        } else if (t instanceof IllegalStateException) {
+            return new Success<>(6);
+        } else if (t instanceof UnsupportedOperationException) {
+            return new Success<>(7);
+        } else if (t instanceof IllegalArgumentException) {
+            return new Success<>(8);
+        } else {
+            return new Failure<>(t);
+        }
+    };
+
+    private final Recovery<Integer> recovery = Recovery.<Integer>builder()
+            .on(FileNotFoundException.class, t -> new Success<>(1))
+            .on(EOFException.class, t -> new Success<>(2))
+            .on(IOException.class, t -> new Success<>(3))
+            .on(UncheckedIOException.class, t -> new Success<>(4))
+            .on(TimeoutException.class, t -> new Success<>(5))
+            .on(IllegalStateException.class, t -> new Success<>(6))
+            .on(UnsupportedOperationException.class, t -> new Success<>(7))
+            .on(IllegalArgumentException.class, t -> new Success<>(8))
+            .build();
+
+    @Benchmark
+    public Try<Integer> instanceofCascade() {
+        return failure.recoverWith(cascade);
+    }
+
+    @Benchmark
+    public Try<Integer> recovery() {
+        return failure.recoverWith(recovery);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Combines four {@link Try} and four {@link Either} values with nested <code>flatMap</code>
+ * invocations and with {@link TryScope} and {@link EitherScope}, either all successful or with
+ * the last one failed. Run with <code>-Pjmh.profilers=gc</code> to compare the bytes allocated
+ * per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScopeBenchmark {
+
+    @Param({"false", "true"})
+    public boolean fail;
+
+    private Try<Integer> t1;
+    private Try<Integer> t2;
+    private Try<Integer> t3;
+    private Try<Integer> t4;
+
+    private Either<String, Integer> e1;
+    private Either<String, Integer> e2;
+    private Either<String, Integer> e3;
+    private Either<String, Integer> e4;
+
+    @Setup
+    public void setup() {
+        t1 = new Success<>(1000);
+        t2 = new Success<>(2000);
+        t3 = new Success<>(3000);
+        t4 = fail ? new Failure<>(new IllegalStateException()) : new Success<>(4000);
+        e1 = new Right<>(1000);
+        e2 = new Right<>(2000);
+        e3 = new Right<>(3000);
+        e4 = fail ? new Left<>("error") : new Right<>(4000);
+    }
+
+    @Benchmark
+    public Try<Integer> tryFlatMap() {
+        return t1.flatMap(a -> t2.flatMap(b -> t3.flatMap(c -> t4.map(d -> a + b + c + d))));
+    }
+
+    @Benchmark
+    public Try<Integer> tryScope() {
+        return TryScope.of(scope -> scope.bind(t1) + scope.bind(t2) + scope.bind(t3)
+                + scope.bind(t4));
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherFlatMap() {
+        return e1.flatMap(a -> e2.flatMap(b -> e3.flatMap(c -> e4.map(d -> a + b + c + d))));
+    }
+
+    @Benchmark
+    public Either<String, Integer> eitherScope() {
+        return EitherScope.of(scope -> scope.bind(e1) + scope.bind(e2) + scope.bind(e3)
+                + scope.bind(e4));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sums the right values of a list of {@link Either} values with
+ * <code>flatMap(Either::stream)</code> and with {@link Either#rights(java.util.stream.Stream)},
+ * on sequential and parallel streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StreamBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private List<Either<String, Long>> eithers;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(size);
+        eithers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            eithers.add(random.nextInt(10) == 0
+                    ? new Left<>("error")
+                    : new Right<>(random.nextLong()));
+        }
+    }
+
+    @Benchmark
+    public long flatMap() {
+        return (parallel ? eithers.parallelStream() : eithers.stream())
+                .flatMap(Either::stream)
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    @Benchmark
+    public long rights() {
+        return Either.rights(parallel ? eithers.parallelStream() : eithers.stream())
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+}
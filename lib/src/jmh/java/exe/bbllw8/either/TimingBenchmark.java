@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs a chain of four stages as plain {@link Try} operations and as a {@link TimedTry}, with
+ * timing disabled and enabled, to measure the overhead per stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TimingBenchmark {
+
+    public String input = " 1000000 ";
+
+    @Benchmark
+    public Try<Integer> plain() {
+        return Try.from(input, String::trim)
+                .map(Integer::parseInt)
+                .map(x -> x + 1)
+                .map(x -> x * 2);
+    }
+
+    @Benchmark
+    public Try<Integer> timedDisabled() {
+        return timed();
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "-D" + StageTimings.PROPERTY_ENABLED + "=true")
+    public Try<Integer> timedEnabled() {
+        return timed();
+    }
+
+    private Try<Integer> timed() {
+        return TimedTry.of(Try.from(input, String::trim))
+                .map("parse", Integer::parseInt)
+                .map("increment", x -> x + 1)
+                .map("double", x -> x * 2)
+                .get();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds and folds three-way results modelled as nested {@link Either}s and as {@link Either3}.
+ * Run with <code>-Pjmh.profilers=gc</code> to compare the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UnionBenchmark {
+
+    private Either<Integer, Either<Long, String>> nested;
+    private Either3<Integer, Long, String> flat;
+    private int value;
+
+    @Setup
+    public void setup() {
+        nested = Either.right(Either.right("third"));
+        flat = Either3.third("third");
+        value = 1_000_000;
+    }
+
+    @Benchmark
+    public Either<Integer, Either<Long, String>> buildNested() {
+        return new Right<>(new Left<>((long) value));
+    }
+
+    @Benchmark
+    public Either3<Integer, Long, String> buildFlat() {
+        return Either3.second((long) value);
+    }
+
+    @Benchmark
+    public int foldNested() {
+        return nested.fold(x -> x, inner -> inner.fold(Long::intValue, String::length));
+    }
+
+    @Benchmark
+    public int foldFlat() {
+        return flat.fold(x -> x, Long::intValue, String::length);
+    }
+}
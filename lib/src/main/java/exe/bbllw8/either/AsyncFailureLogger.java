@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Logger of {@link Failure} and {@link Left} values that moves their formatting and writing off
+ * the threads that produce them.
+ * <p>
+ * Producers hand the values to a preallocated, bounded, lock-free ring buffer that supports
+ * multiple producers and a single consumer: handing a value over does not allocate, lock nor
+ * block. When the buffer is full the value is dropped and counted, see {@link #dropped()}.
+ * <p>
+ * A background daemon thread formats the values (the stack trace of throwables and the string
+ * representation of left values), one line per value prefixed by the time it was handed over,
+ * and writes them to the channel in batches. When there is nothing to write the thread parks
+ * until a producer hands over a value. A value whose formatting throws is replaced by a
+ * placeholder with the name of its class and counted in {@link #writeErrors()}.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class AsyncFailureLogger implements Closeable {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int BATCH_SIZE = 256;
+
+    private final WritableByteChannel channel;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final Object[] values;
+    private final boolean[] failures;
+    private final long[] times;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writeErrors = new AtomicLong();
+    private final Thread consumer;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Whether the consumer thread is parked, or about to park, waiting for a value.
+     */
+    private volatile boolean waiting;
+
+    /**
+     * Position of the next value to be consumed. Accessed only by the consumer thread, and by
+     * {@link #close()} once it has stopped.
+     */
+    private long head;
+
+    /**
+     * Number of values of the current batch that could not be formatted. Accessed only by the
+     * consumer thread, and by {@link #close()} once it has stopped.
+     */
+    private int unformatted;
+
+    /**
+     * Buffers of the consumer thread.
+     */
+    private final StringWriter text = new StringWriter();
+    private final PrintWriter printer = new PrintWriter(text);
+
+    /**
+     * Creates a logger that writes to the given channel, with a buffer of 1024 values.
+     *
+     * @since 3.5.0
+     */
+    public AsyncFailureLogger(WritableByteChannel channel) {
+        this(channel, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a logger that writes to the given channel.
+     *
+     * @param channel  The channel the values are written to, closed by {@link #close()}
+     * @param capacity The number of values that can be waiting to be written, rounded up to a
+     *                 power of two
+     * @throws IllegalArgumentException if the capacity is not positive or too large
+     * @since 3.5.0
+     */
+    public AsyncFailureLogger(WritableByteChannel channel, int capacity) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.channel = Objects.requireNonNull(channel);
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = size - 1;
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        values = new Object[size];
+        failures = new boolean[size];
+        times = new long[size];
+
+        consumer = new Thread(this::consume, "either-failure-logger");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Creates a logger that appends to the file at the given path, creating it if needed.
+     *
+     * @throws IOException if the file cannot be opened
+     * @since 3.5.0
+     */
+    public static AsyncFailureLogger open(Path path) throws IOException {
+        return new AsyncFailureLogger(FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Hands the throwable of the given {@link Try} to the logger if it is a {@link Failure}.
+     *
+     * @return Returns false if the value was dropped because the buffer is full or the logger
+     * is closed, true otherwise.
+     * @since 3.5.0
+     */
+    public boolean offer(Try<?> t) {
+        return t.isSuccess() || offer(((Failure<?>) t).throwable(), true);
+    }
+
+    /**
+     * Hands the value of the given {@link Either} to the logger if it is a {@link Left}.
+     *
+     * @return Returns false if the value was dropped because the buffer is full or the logger
+     * is closed, true otherwise.
+     * @since 3.5.0
+     */
+    public boolean offer(Either<?, ?> either) {
+        return either.isRight() || offer(((Left<?, ?>) either).value(), false);
+    }
+
+    /**
+     * @return Returns the number of values that were dropped.
+     * @since 3.5.0
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return Returns the number of values that were written.
+     * @since 3.5.0
+     */
+    public long written() {
+        return written.get();
+    }
+
+    /**
+     * @return Returns the number of values that could not be written because the channel
+     * threw an {@link IOException} or because their formatting threw an exception.
+     * @since 3.5.0
+     */
+    public long writeErrors() {
+        return writeErrors.get();
+    }
+
+    /**
+     * Writes the values handed over so far, stops the background thread and closes the
+     * channel. Values handed over concurrently with this method may be dropped: they are
+     * counted in {@link #dropped()}.
+     *
+     * @throws IOException if the channel cannot be closed
+     * @since 3.5.0
+     */
+    @Override
+    public void close() throws IOException {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Write the values published after the last poll of the consumer thread
+        int count;
+        while ((count = poll()) > 0) {
+            write(count);
+        }
+        // The remaining slots are claimed by producers that have not published them yet
+        dropped.add(tail.get() - head);
+        channel.close();
+    }
+
+    private boolean offer(Object value, boolean failure) {
+        if (closed.get()) {
+            dropped.increment();
+            return false;
+        }
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0L) {
+                if (tail.compareAndSet(position, position + 1L)) {
+                    break;
+                }
+            } else if (difference < 0L) {
+                // The slot has not been consumed yet: the buffer is full
+                dropped.increment();
+                return false;
+            }
+            // Otherwise another producer has claimed the slot: retry
+        }
+        values[index] = value;
+        failures[index] = failure;
+        times[index] = System.currentTimeMillis();
+        // Publish the slot to the consumer
+        sequences.set(index, position + 1L);
+        if (waiting) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    private void consume() {
+        while (true) {
+            final boolean stop = closed.get();
+            final int count = poll();
+            if (count > 0) {
+                write(count);
+            } else if (stop) {
+                return;
+            } else {
+                waiting = true;
+                // Check again after announcing that the thread is waiting: a value published
+                // in the meantime would otherwise not unpark it
+                if (!isPublished() && !closed.get()) {
+                    LockSupport.park(this);
+                }
+                waiting = false;
+            }
+        }
+    }
+
+    /**
+     * @return Returns true if the value at the head of the buffer is published, false otherwise.
+     */
+    private boolean isPublished() {
+        return sequences.get((int) head & mask) == head + 1L;
+    }
+
+    /**
+     * Formats up to {@link #BATCH_SIZE} published values.
+     *
+     * @return Returns the number of formatted values.
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    private int poll() {
+        int count = 0;
+        while (count < BATCH_SIZE && isPublished()) {
+            final int index = (int) head & mask;
+            final Object value = values[index];
+            final boolean failure = failures[index];
+            final long time = times[index];
+            values[index] = null;
+            // Release the slot to the producers
+            sequences.set(index, head + mask + 1L);
+            head++;
+
+            printer.print(Instant.ofEpochMilli(time));
+            printer.print(failure ? " Failure: " : " Left: ");
+            final int mark = text.getBuffer().length();
+            try {
+                if (failure) {
+                    ((Throwable) value).printStackTrace(printer);
+                } else {
+                    printer.println(value);
+                }
+            } catch (Throwable t) {
+                // A value that refers to itself may overflow the stack: other errors are fatal
+                if (t instanceof VirtualMachineError && !(t instanceof StackOverflowError)) {
+                    throw (VirtualMachineError) t;
+                }
+                // Discard the partial output of the value
+                text.getBuffer().setLength(mark);
+                printer.print("<unformattable ");
+                printer.print(value.getClass().getName());
+                printer.println('>');
+                unformatted++;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    private void write(int count) {
+        printer.flush();
+        final ByteBuffer buffer = ByteBuffer.wrap(text.toString()
+                .getBytes(StandardCharsets.UTF_8));
+        text.getBuffer().setLength(0);
+        writeErrors.addAndGet(unformatted);
+        final int formatted = count - unformatted;
+        unformatted = 0;
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            written.addAndGet(formatted);
+        } catch (IOException e) {
+            writeErrors.addAndGet(formatted);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Values that are so common that a single shared instance of {@link Left}, {@link Right} and
+ * {@link Success} holding each of them is kept, rather than allocating identical instances
+ * over and over again. The same applies to the {@link Optional}s returned by the conversions
+ * of these types.
+ * <p>
+ * The canonical values are {@link Boolean#TRUE}, {@link Boolean#FALSE}, the {@link Integer}
+ * values between -128 and 127 (inclusive) cached by {@link Integer#valueOf(int)} and the empty
+ * collections of {@link Collections}. Values are matched by identity, so that the shared
+ * instances hold the very same object given by the caller: an equal {@link Integer} or
+ * {@link Boolean} that is not a cached instance is not canonical.
+ *
+ * @author 2bllw8
+ * @see Either#left(Object)
+ * @see Either#right(Object)
+ * @see Try#success(Object)
+ * @since 3.5.0
+ */
+/* package */ final class Canonical {
+
+    private static final int INT_LOW = -128;
+    private static final int INT_HIGH = 127;
+
+    private static final Object[] VALUES = {
+            Boolean.TRUE,
+            Boolean.FALSE,
+            Collections.emptyList(),
+            Collections.emptySet(),
+            Collections.emptyMap(),
+    };
+
+    private static final int SIZE = VALUES.length + INT_HIGH - INT_LOW + 1;
+
+    private static final Object[] OPTIONALS = instances(Optional::of);
+
+    private Canonical() {
+    }
+
+    /**
+     * @return Returns the index of the given value among the canonical values, or
+     * <code>-1</code> if the value is not canonical.
+     */
+    /* package */ static int indexOf(Object value) {
+        if (value instanceof Integer) {
+            final int i = (Integer) value;
+            // Only the instances cached by Integer.valueOf, never a box created by the caller
+            return i >= INT_LOW && i <= INT_HIGH && Integer.valueOf(i) == value
+                    ? VALUES.length + i - INT_LOW
+                    : -1;
+        } else if (value == Boolean.TRUE) {
+            return 0;
+        } else if (value == Boolean.FALSE) {
+            return 1;
+        } else {
+            // Only the shared immutable instances, never a mutable empty collection
+            for (int i = 2; i < VALUES.length; i++) {
+                if (VALUES[i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * @return Returns an {@link Optional} holding the given non-null value, which is a shared
+     * instance if the value is canonical.
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static <T> Optional<T> optional(T value) {
+        final int i = indexOf(value);
+        return i < 0
+                ? Optional.of(value)
+                : (Optional<T>) OPTIONALS[i];
+    }
+
+    /**
+     * @return Returns an array holding the result of the application of the given factory to
+     * each canonical value, sorted by {@link #indexOf(Object)}.
+     */
+    /* package */ static Object[] instances(Function<Object, Object> factory) {
+        final Object[] instances = new Object[SIZE];
+        for (int i = 0; i < VALUES.length; i++) {
+            instances[i] = factory.apply(VALUES[i]);
+        }
+        for (int i = INT_LOW; i <= INT_HIGH; i++) {
+            instances[VALUES.length + i - INT_LOW] = factory.apply(i);
+        }
+        return instances;
+    }
+}
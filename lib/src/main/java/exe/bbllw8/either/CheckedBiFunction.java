@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Objects;
+
+/**
+ * Represents a function that accepts two arguments and produces a result, but may also throw a
+ * {@link Throwable}.
+ *
+ * @param <T> the type of the first argument to the function
+ * @param <U> the type of the second argument to the function
+ * @param <R> the type of the result of the function
+ * @author 2bllw8
+ * @see Try#from(Object, Object, CheckedBiFunction)
+ * @since 3.5.0
+ */
+@FunctionalInterface
+public interface CheckedBiFunction<T, U, R> {
+
+    /**
+     * Applies this function to the given arguments. During the application an exception may be
+     * thrown instead of returning the result.
+     *
+     * @param t the first function argument
+     * @param u the second function argument
+     * @return the function result
+     */
+    R apply(T t, U u) throws Throwable;
+
+    /**
+     * Returns a composed function that first applies this function to its inputs, and then
+     * applies the {@code after} function to the result. If evaluation of either function throws
+     * an exception, it is relayed to the caller of the composed function.
+     *
+     * @param <V>   the type of output of the {@code after} function, and of the composed function
+     * @param after the function to apply after this function is applied
+     * @return a composed function that first applies this function and then applies the
+     * {@code after} function
+     * @throws NullPointerException if after is null
+     */
+    default <V> CheckedBiFunction<T, U, V> andThen(CheckedFunction<R, V> after) {
+        Objects.requireNonNull(after);
+        return (t, u) -> after.apply(apply(t, u));
+    }
+}
@@ -38,10 +38,11 @@ public interface CheckedFunction<T, R> {
      * this function
      * @throws NullPointerException if before is null
      * @see #andThen(CheckedFunction)
+     * @see Pipeline
      */
     default <V> CheckedFunction<V, R> compose(CheckedFunction<V, T> before) {
         Objects.requireNonNull(before);
-        return v -> apply(before.apply(v));
+        return Pipeline.of(this).compose(before);
     }
 
     /**
@@ -55,9 +56,10 @@ public interface CheckedFunction<T, R> {
      * {@code after} function
      * @throws NullPointerException if after is null
      * @see #compose(CheckedFunction)
+     * @see Pipeline
      */
     default <V> CheckedFunction<T, V> andThen(CheckedFunction<R, V> after) {
         Objects.requireNonNull(after);
-        return t -> after.apply(apply(t));
+        return Pipeline.of(this).andThen(after);
     }
 }
@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Represents an operation that does not return a result and may throw a {@link Throwable}.
+ *
+ * @author 2bllw8
+ * @see Try#run(CheckedRunnable)
+ * @since 3.5.0
+ */
+@FunctionalInterface
+public interface CheckedRunnable {
+
+    void run() throws Throwable;
+}
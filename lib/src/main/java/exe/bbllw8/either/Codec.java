@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Encodes values of a type to a compact binary form and decodes them back.
+ * <p>
+ * Codecs write to {@link DataOutput} and read from {@link DataInput}, so they can be used with
+ * streams, files and, through {@link #encode(Object, ByteBuffer)} and
+ * {@link #decode(ByteBuffer)}, with {@link ByteBuffer}s. Unlike Java serialization, no class
+ * descriptors are written: the reader must use a codec of the same shape as the writer.
+ * <p>
+ * Codecs of {@link Either} and {@link Try} values are built from the codecs of the values they
+ * hold with {@link EitherCodec} and {@link TryCodec}.
+ *
+ * @param <T> Type of the encoded values
+ * @author 2bllw8
+ * @see EitherCodec
+ * @see TryCodec
+ * @since 3.5.0
+ */
+public interface Codec<T> {
+
+    /**
+     * Writes the given value.
+     *
+     * @param value The value to be written
+     * @param out   The output the value is written to
+     * @throws IOException if an I/O error occurs
+     * @since 3.5.0
+     */
+    void encode(T value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a value.
+     *
+     * @param in The input the value is read from
+     * @return Returns the value that was read.
+     * @throws IOException if an I/O error occurs or the input is malformed
+     * @since 3.5.0
+     */
+    T decode(DataInput in) throws IOException;
+
+    /**
+     * Writes the given value to a big endian buffer, starting at its position.
+     *
+     * @param value  The value to be written
+     * @param buffer The buffer the value is written to
+     * @throws IOException                       if an I/O error occurs
+     * @throws java.nio.BufferOverflowException  if the buffer does not have enough space
+     * @throws IllegalArgumentException          if the buffer is not big endian
+     * @since 3.5.0
+     */
+    default void encode(T value, ByteBuffer buffer) throws IOException {
+        encode(value, new BufferDataOutput(buffer));
+    }
+
+    /**
+     * Reads a value from a big endian buffer, starting at its position.
+     *
+     * @param buffer The buffer the value is read from
+     * @return Returns the value that was read.
+     * @throws IOException              if an I/O error occurs, the input is malformed or the
+     *                                  buffer ends before the end of the value
+     * @throws IllegalArgumentException if the buffer is not big endian
+     * @since 3.5.0
+     */
+    default T decode(ByteBuffer buffer) throws IOException {
+        return decode(new BufferDataInput(buffer));
+    }
+
+    /**
+     * Lazily reads values from the given input stream until it ends.
+     * <p>
+     * If an I/O error occurs or the stream ends within a value, an
+     * {@link UncheckedIOException} is thrown from the stream operation that caused the read.
+     * Closing the returned stream does not close the input stream.
+     *
+     * @param in The input stream the values are read from
+     * @return Returns a lazily populated stream of the values that were read.
+     * @since 3.5.0
+     */
+    default Stream<T> decodeAll(InputStream in) {
+        final PushbackInputStream pushback = new PushbackInputStream(in, 1);
+        final DataInputStream data = new DataInputStream(pushback);
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+                Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    final int next = pushback.read();
+                    if (next < 0) {
+                        return false;
+                    }
+                    pushback.unread(next);
+                    action.accept(decode(data));
+                    return true;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }, false);
+    }
+
+    /**
+     * @return Returns a codec of non-null {@link Integer} values, written as 4 bytes.
+     * @since 3.5.0
+     */
+    static Codec<Integer> ints() {
+        return Codecs.INT;
+    }
+
+    /**
+     * @return Returns a codec of non-null {@link Long} values, written as 8 bytes.
+     * @since 3.5.0
+     */
+    static Codec<Long> longs() {
+        return Codecs.LONG;
+    }
+
+    /**
+     * @return Returns a codec of non-null {@link Double} values, written as 8 bytes.
+     * @since 3.5.0
+     */
+    static Codec<Double> doubles() {
+        return Codecs.DOUBLE;
+    }
+
+    /**
+     * @return Returns a codec of non-null {@link String} values, written as their length
+     * followed by their UTF-8 bytes.
+     * @since 3.5.0
+     */
+    static Codec<String> strings() {
+        return Codecs.STRING;
+    }
+}
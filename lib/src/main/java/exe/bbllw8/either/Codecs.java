@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Codecs of common types.
+ *
+ * @author 2bllw8
+ * @see Codec
+ * @since 3.5.0
+ */
+/* package */ final class Codecs {
+
+    /**
+     * Maximum number of bytes or elements allocated before reading them.
+     */
+    /* package */ static final int CHUNK_SIZE = 8192;
+
+    /* package */ static final Codec<Integer> INT = new Codec<Integer>() {
+        @Override
+        public void encode(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer decode(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /* package */ static final Codec<Long> LONG = new Codec<Long>() {
+        @Override
+        public void encode(Long value, DataOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long decode(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /* package */ static final Codec<Double> DOUBLE = new Codec<Double>() {
+        @Override
+        public void encode(Double value, DataOutput out) throws IOException {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double decode(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    /* package */ static final Codec<String> STRING = new Codec<String>() {
+        @Override
+        public void encode(String value, DataOutput out) throws IOException {
+            final byte[] bytes = Objects.requireNonNull(value)
+                    .getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String decode(DataInput in) throws IOException {
+            final int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid string length: " + length);
+            }
+            return new String(readBytes(in, length), StandardCharsets.UTF_8);
+        }
+    };
+
+    private Codecs() {
+    }
+
+    /**
+     * Reads the given number of bytes.
+     * <p>
+     * The length is read from the input too, so it cannot be trusted: the array grows as the
+     * bytes are read, up to twice the size of the bytes actually available. A corrupted length
+     * larger than the input makes the read fail with an {@link java.io.EOFException} instead of
+     * allocating an arbitrarily large array.
+     */
+    /* package */ static byte[] readBytes(DataInput in, int length) throws IOException {
+        byte[] bytes = new byte[Math.min(length, CHUNK_SIZE)];
+        int read = 0;
+        while (true) {
+            in.readFully(bytes, read, bytes.length - read);
+            read = bytes.length;
+            if (read == length) {
+                return bytes;
+            }
+            bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+        }
+    }
+
+    /**
+     * Writes a non-negative int using 7 bits per byte, so that small values take one byte.
+     */
+    /* package */ static void writeVarInt(DataOutput out, int value) throws IOException {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    /**
+     * Reads an int written by {@link #writeVarInt(DataOutput, int)}.
+     */
+    /* package */ static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length int");
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A growable sequence of {@link Try} results whose successful values are primitive 64-bit
+ * values stored outside of the Java heap.
+ * <p>
+ * The successful values are written to a direct {@link ByteBuffer}, one 8-byte slot per
+ * element. Failures are recorded in a sparse index: only the failed elements hold a reference
+ * to their {@link Throwable}.
+ * <p>
+ * To instantiate this class use one of:
+ * <ul>
+ *     <li>{@link LongTryArray}</li>
+ *     <li>{@link DoubleTryArray}</li>
+ * </ul>
+ *
+ * @param <T> Boxed type of the successful values
+ * @author 2bllw8
+ * @see LongTryArray
+ * @see DoubleTryArray
+ * @since 3.5.0
+ */
+public abstract class DirectTryArray<T> {
+
+    private static final int SLOT_SIZE = 8;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / SLOT_SIZE;
+
+    private ByteBuffer buffer;
+    private int size;
+    private final FailureIndex failures = new FailureIndex();
+
+    /* package */ DirectTryArray(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        buffer = allocate(capacity);
+    }
+
+    /**
+     * @return Returns the number of results in this array.
+     * @since 3.5.0
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * @return Returns true if the result at the given index is a failure, false otherwise.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public final boolean isFailure(int index) {
+        checkIndex(index);
+        return failures.contains(index);
+    }
+
+    /**
+     * @return Returns true if the result at the given index is a success, false otherwise.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public final boolean isSuccess(int index) {
+        return !isFailure(index);
+    }
+
+    /**
+     * @return Returns the number of failures in this array.
+     * @since 3.5.0
+     */
+    public final int failureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @return Returns the number of successes in this array.
+     * @since 3.5.0
+     */
+    public final int successCount() {
+        return size - failures.size();
+    }
+
+    /**
+     * Appends a failure. The hooks are notified of it as if a {@link Failure} was created.
+     *
+     * @param throwable The cause of the failure
+     * @throws NullPointerException if throwable is null
+     * @since 3.5.0
+     */
+    public final void addFailure(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        Failure.assertNotFatal(throwable);
+        Failure.notifyHooks(throwable);
+        failures.add(nextSlot(), throwable);
+    }
+
+    /**
+     * Appends the given result. The hooks are not notified again of a {@link Failure}.
+     *
+     * @throws NullPointerException if the result is a failure holding a null throwable
+     * @since 3.5.0
+     */
+    public final void add(Try<T> result) {
+        result.forEach(this::addBoxed,
+                throwable -> failures.add(nextSlot(), Objects.requireNonNull(throwable)));
+    }
+
+    /**
+     * @return Returns the result at the given index as a new {@link Try} instance.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public final Try<T> get(int index) {
+        checkIndex(index);
+        final Throwable throwable = failures.get(index);
+        return throwable == null
+                ? new Success<>(boxedAt(offset(index)))
+                : Failure.ofNotified(throwable);
+    }
+
+    /**
+     * Appends a success holding the given boxed value.
+     */
+    /* package */ abstract void addBoxed(T value);
+
+    /**
+     * @return Returns the boxed successful value stored at the given offset of the buffer.
+     */
+    /* package */ abstract T boxedAt(int offset);
+
+    /**
+     * Reserves the slot for a new element, growing the buffer if needed.
+     *
+     * @return Returns the index of the new element.
+     */
+    /* package */ final int nextSlot() {
+        if (size == buffer.capacity() / SLOT_SIZE) {
+            if (size == MAX_CAPACITY) {
+                throw new IllegalStateException("Maximum capacity reached");
+            }
+            final ByteBuffer grown = allocate((int) Math.min(MAX_CAPACITY,
+                    Math.max(16L, size * 2L)));
+            buffer.clear();
+            grown.put(buffer);
+            buffer = grown;
+        }
+        return size++;
+    }
+
+    /* package */ final ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /* package */ static int offset(int index) {
+        return index * SLOT_SIZE;
+    }
+
+    /**
+     * @return Returns the offset of the successful value at the given index.
+     * @throws IndexOutOfBoundsException     if the index is out of range
+     * @throws UnsupportedOperationException if the result at the given index is a failure
+     */
+    /* package */ final int successOffset(int index) {
+        if (isFailure(index)) {
+            throw new UnsupportedOperationException("Failure.get");
+        }
+        return offset(index);
+    }
+
+    /**
+     * Applies successConsumer to the offset of each successful value and failureConsumer to
+     * each failure, in the same order of this array.
+     */
+    /* package */ final void forEachSlot(IntConsumer successConsumer,
+                                         Consumer<Throwable> failureConsumer) {
+        int nextFailure = 0;
+        for (int i = 0; i < size; i++) {
+            if (nextFailure < failures.size() && failures.indexAt(nextFailure) == i) {
+                failureConsumer.accept(failures.throwableAt(nextFailure++));
+            } else {
+                successConsumer.accept(offset(i));
+            }
+        }
+    }
+
+    /**
+     * @return Returns a stream of the offsets of the successful values of this array.
+     */
+    /* package */ final IntStream successOffsets() {
+        return IntStream.range(0, size)
+                .filter(i -> !failures.contains(i))
+                .map(DirectTryArray::offset);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private static ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * SLOT_SIZE).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+/**
+ * A growable sequence of {@link Try} results with <code>double</code> successful values stored
+ * outside of the Java heap.
+ * <p>
+ * Each successful value occupies 8 bytes of a direct buffer, without any object header or
+ * boxing, while failures are kept in a sparse index that only references the
+ * {@link Throwable} of the failed elements. Holding a large number of results in an instance
+ * of this class instead of a collection of {@link Success} and {@link Failure} objects
+ * dramatically reduces the number of objects the garbage collector has to trace.
+ * {@link Try} instances are created only on demand, through {@link #get(int)}.
+ * <p>
+ * The off-heap memory is released when the instance is garbage collected.
+ * <p>
+ * This class is not thread-safe and it is not serializable.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class DoubleTryArray extends DirectTryArray<Double> {
+
+    /**
+     * Constructs an empty array with the given initial capacity.
+     *
+     * @param capacity The number of results the array can hold before growing
+     * @throws IllegalArgumentException if the capacity is negative or too large to fit in a
+     *                                  direct buffer
+     * @since 3.5.0
+     */
+    public DoubleTryArray(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Appends a success.
+     *
+     * @param value The successful value
+     * @since 3.5.0
+     */
+    public void addSuccess(double value) {
+        // Reserve the slot first: the buffer may be replaced to grow it
+        final int offset = offset(nextSlot());
+        buffer().putDouble(offset, value);
+    }
+
+    /**
+     * @return Returns the successful value at the given index.
+     * @throws IndexOutOfBoundsException     if the index is out of range
+     * @throws UnsupportedOperationException if the result at the given index is a failure
+     * @since 3.5.0
+     */
+    public double getDouble(int index) {
+        return buffer().getDouble(successOffset(index));
+    }
+
+    /**
+     * Applies the given function to each successful value.
+     *
+     * @since 3.5.0
+     */
+    public void forEach(DoubleConsumer consumer) {
+        forEach(consumer, throwable -> {
+            // Do nothing
+        });
+    }
+
+    /**
+     * Applies successConsumer to each successful value and failureConsumer to each failure, in
+     * the same order of this array.
+     *
+     * @since 3.5.0
+     */
+    public void forEach(DoubleConsumer successConsumer, Consumer<Throwable> failureConsumer) {
+        forEachSlot(offset -> successConsumer.accept(buffer().getDouble(offset)), failureConsumer);
+    }
+
+    /**
+     * @return Returns a stream of the successful values of this array.
+     * @since 3.5.0
+     */
+    public DoubleStream stream() {
+        return successOffsets().mapToDouble(offset -> buffer().getDouble(offset));
+    }
+
+    @Override
+    /* package */ void addBoxed(Double value) {
+        addSuccess(value);
+    }
+
+    @Override
+    /* package */ Double boxedAt(int offset) {
+        return buffer().getDouble(offset);
+    }
+}
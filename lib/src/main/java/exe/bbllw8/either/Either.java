@@ -5,9 +5,13 @@
 package exe.bbllw8.either;
 
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -20,6 +24,9 @@ import java.util.stream.Stream;
  * <ul>
  *     <li>{@link Left}: instance with a left value</li>
  *     <li>{@link Right}: instance with a right value</li>
+ *     <li>{@link Either#left(Object)}: instance with a left value, shared for common values</li>
+ *     <li>{@link Either#right(Object)}: instance with a right value, shared for common
+ *         values</li>
  *     <li>{@link Either#from(boolean, Supplier, Supplier)}: instance from the evaluation
  *         of a supplied boolean value</li>
  * </ul>
@@ -40,6 +47,8 @@ public abstract class Either<A, B> {
      * <ul>
      *     <li>{@link Left}</li>
      *     <li>{@link Right}</li>
+     *     <li>{@link Either#left(Object)}</li>
+     *     <li>{@link Either#right(Object)}</li>
      *     <li>{@link Either#from(boolean, Supplier, Supplier)}</li>
      * </ul>
      *
@@ -178,6 +187,26 @@ public abstract class Either<A, B> {
      */
     public abstract Optional<B> toOptional();
 
+    /**
+     * Unlike <code>toOptional().map(function)</code>, the result of the function is not boxed.
+     *
+     * @return Returns an {@link OptionalInt} with the result of the application of the given
+     * function to the right value if this is a {@link Right}, otherwise,
+     * {@link OptionalInt#empty()}.
+     * @since 3.5.0
+     */
+    public abstract OptionalInt toOptionalInt(ToIntFunction<B> function);
+
+    /**
+     * Unlike <code>toOptional().map(function)</code>, the result of the function is not boxed.
+     *
+     * @return Returns an {@link OptionalLong} with the result of the application of the given
+     * function to the right value if this is a {@link Right}, otherwise,
+     * {@link OptionalLong#empty()}.
+     * @since 3.5.0
+     */
+    public abstract OptionalLong toOptionalLong(ToLongFunction<B> function);
+
     /**
      * @return If the <code>conditional</code> is <code>true</code> returns a {@link Right} holding
      * the value supplied by <code>ifTrue</code>, otherwise a {@link Left} holding the value
@@ -186,9 +215,72 @@ public abstract class Either<A, B> {
      */
     public static <A, B> Either<A, B> from(boolean conditional, Supplier<B> ifTrue,
                                            Supplier<A> ifFalse) {
+        if (OutcomeListeners.ENABLED) {
+            OutcomeListeners.eitherFrom(conditional);
+        }
         return conditional
-                ? new Right<>(ifTrue.get())
-                : new Left<>(ifFalse.get());
+                ? Right.of(ifTrue.get())
+                : Left.of(ifFalse.get());
+    }
+
+    /**
+     * Returns a {@link Left} holding the given value.
+     * <p>
+     * Unlike the {@link Left} constructor, this method returns a shared instance when the value
+     * is a common constant: {@link Boolean#TRUE}, {@link Boolean#FALSE}, an {@link Integer}
+     * between -128 and 127 or one of the empty collections of {@link java.util.Collections}.
+     *
+     * @return Returns a {@link Left} holding the given value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B> Either<A, B> left(A value) {
+        return Left.of(value);
+    }
+
+    /**
+     * Returns a {@link Right} holding the given value.
+     * <p>
+     * Unlike the {@link Right} constructor, this method returns a shared instance when the
+     * value is a common constant: {@link Boolean#TRUE}, {@link Boolean#FALSE}, an
+     * {@link Integer} between -128 and 127 or one of the empty collections of
+     * {@link java.util.Collections}.
+     *
+     * @return Returns a {@link Right} holding the given value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B> Either<A, B> right(B value) {
+        return Right.of(value);
+    }
+
+    /**
+     * Filters the {@link Left} elements of the given stream and unwraps their values.
+     * <p>
+     * Unlike <code>flatMap(either -&gt; either.left().stream())</code>, no stream is created
+     * per element. The returned stream is parallel if the given one is, and closing it closes
+     * the given stream.
+     *
+     * @return Returns a stream of the left values of the given stream, in the same order.
+     * @see #rights(Stream)
+     * @since 3.5.0
+     */
+    public static <A, B> Stream<A> lefts(Stream<Either<A, B>> stream) {
+        return UnwrappingSpliterator.stream(stream, UnwrappingSpliterator.LEFTS, true);
+    }
+
+    /**
+     * Filters the {@link Right} elements of the given stream and unwraps their values.
+     * <p>
+     * Unlike <code>flatMap(Either::stream)</code>, no stream is created per element. The
+     * returned stream is parallel if the given one is, and closing it closes the given stream.
+     *
+     * @return Returns a stream of the right values of the given stream, in the same order.
+     * @see #lefts(Stream)
+     * @since 3.5.0
+     */
+    public static <A, B> Stream<B> rights(Stream<Either<A, B>> stream) {
+        return UnwrappingSpliterator.stream(stream, UnwrappingSpliterator.RIGHTS, true);
     }
 
     /**
@@ -197,14 +289,10 @@ public abstract class Either<A, B> {
      * @since 2.0.0
      */
     public static <A, B> Either<A, B> flatten(Either<A, Either<A, B>> either) {
-        if (either instanceof Left<?, ?>) {
-            return Left.flatten((Left<A, Either<A, B>>) either);
-        } else if (either instanceof Right<?, ?>) {
-            return Right.flatten((Right<A, Either<A, B>>) either);
-        } else {
-            // Should never happen
-            throw new IllegalStateException();
-        }
+        // Left and Right are the only subclasses of Either
+        return either instanceof Left<?, ?>
+                ? Left.flatten((Left<A, Either<A, B>>) either)
+                : Right.flatten((Right<A, Either<A, B>>) either);
     }
 
     /**
@@ -220,14 +308,10 @@ public abstract class Either<A, B> {
      * @since 2.0.0
      */
     public static <B, C> Either<C, B> joinLeft(Either<Either<C, B>, B> either) {
-        if (either instanceof Left<?, ?>) {
-            return Left.joinLeft((Left<Either<C, B>, B>) either);
-        } else if (either instanceof Right<?, ?>) {
-            return Right.joinLeft((Right<Either<C, B>, B>) either);
-        } else {
-            // Should never happen
-            throw new IllegalStateException();
-        }
+        // Left and Right are the only subclasses of Either
+        return either instanceof Left<?, ?>
+                ? Left.joinLeft((Left<Either<C, B>, B>) either)
+                : Right.joinLeft((Right<Either<C, B>, B>) either);
     }
 
     /**
@@ -243,13 +327,9 @@ public abstract class Either<A, B> {
      * @since 2.0.0
      */
     public static <A, C> Either<A, C> joinRight(Either<A, Either<A, C>> either) {
-        if (either instanceof Left<?, ?>) {
-            return Left.joinRight((Left<A, Either<A, C>>) either);
-        } else if (either instanceof Right<?, ?>) {
-            return Right.joinRight((Right<A, Either<A, C>>) either);
-        } else {
-            // Should never happen
-            throw new IllegalStateException();
-        }
+        // Left and Right are the only subclasses of Either
+        return either instanceof Left<?, ?>
+                ? Left.joinRight((Left<A, Either<A, C>>) either)
+                : Right.joinRight((Right<A, Either<A, C>>) either);
     }
 }
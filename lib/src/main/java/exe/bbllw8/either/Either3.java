@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Represents a value of 1 of 3 possible types (disjoint union).
+ * <p>
+ * Unlike nested {@link Either} values such as
+ * <code>Either&lt;A, Either&lt;B, C&gt;&gt;</code>, an instance of this class is a
+ * single object that holds its value and a tag identifying its type: building it takes one
+ * allocation and inspecting it does not traverse nested instances.
+ * <p>
+ * <code>null</code> values are not accepted and will throw exceptions if used in an
+ * {@link Either3} instance.
+ * <p>
+ * This class is not serializable.
+ *
+ * @param <A> Type of the first value
+ * @param <B> Type of the second value
+ * @param <C> Type of the third value
+ * @author 2bllw8
+ * @see Either
+ * @since 3.5.0
+ */
+public final class Either3<A, B, C> {
+
+    private static final int FIRST = 0;
+    private static final int SECOND = 1;
+    private static final int THIRD = 2;
+
+    private transient final int tag;
+    private transient final Object value;
+
+    private Either3(int tag, Object value) {
+        this.tag = tag;
+        this.value = Objects.requireNonNull(value);
+    }
+
+    /**
+     * @return Returns an instance holding the given first value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B, C> Either3<A, B, C> first(A value) {
+        return new Either3<>(FIRST, value);
+    }
+
+    /**
+     * @return Returns an instance holding the given second value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B, C> Either3<A, B, C> second(B value) {
+        return new Either3<>(SECOND, value);
+    }
+
+    /**
+     * @return Returns an instance holding the given third value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B, C> Either3<A, B, C> third(C value) {
+        return new Either3<>(THIRD, value);
+    }
+
+    /**
+     * @return Returns true if this holds a first value, false otherwise.
+     * @since 3.5.0
+     */
+    public boolean isFirst() {
+        return tag == FIRST;
+    }
+
+    /**
+     * @return Returns true if this holds a second value, false otherwise.
+     * @since 3.5.0
+     */
+    public boolean isSecond() {
+        return tag == SECOND;
+    }
+
+    /**
+     * @return Returns true if this holds a third value, false otherwise.
+     * @since 3.5.0
+     */
+    public boolean isThird() {
+        return tag == THIRD;
+    }
+
+    /**
+     * Applies the function of the type of the value of this instance.
+     *
+     * @return Returns the result of the application of the function.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R fold(Function<A, R> firstFunction,
+                      Function<B, R> secondFunction,
+                      Function<C, R> thirdFunction) {
+        switch (tag) {
+            case FIRST:
+                return firstFunction.apply((A) value);
+            case SECOND:
+                return secondFunction.apply((B) value);
+            default:
+                return thirdFunction.apply((C) value);
+        }
+    }
+
+    /**
+     * Executes the consumer of the type of the value of this instance.
+     *
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<A> firstConsumer,
+                        Consumer<B> secondConsumer,
+                        Consumer<C> thirdConsumer) {
+        switch (tag) {
+            case FIRST:
+                firstConsumer.accept((A) value);
+                break;
+            case SECOND:
+                secondConsumer.accept((B) value);
+                break;
+            default:
+                thirdConsumer.accept((C) value);
+                break;
+        }
+    }
+
+    /**
+     * @return Returns an instance holding the result of the application of the given function
+     * to the first value if this holds a first value, or this otherwise.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <A1> Either3<A1, B, C> mapFirst(Function<A, A1> function) {
+        return tag == FIRST
+                ? new Either3<>(tag, function.apply((A) value))
+                : (Either3<A1, B, C>) this;
+    }
+
+    /**
+     * @return Returns an instance holding the result of the application of the given function
+     * to the second value if this holds a second value, or this otherwise.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <B1> Either3<A, B1, C> mapSecond(Function<B, B1> function) {
+        return tag == SECOND
+                ? new Either3<>(tag, function.apply((B) value))
+                : (Either3<A, B1, C>) this;
+    }
+
+    /**
+     * @return Returns an instance holding the result of the application of the given function
+     * to the third value if this holds a third value, or this otherwise.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <C1> Either3<A, B, C1> mapThird(Function<C, C1> function) {
+        return tag == THIRD
+                ? new Either3<>(tag, function.apply((C) value))
+                : (Either3<A, B, C1>) this;
+    }
+
+    /**
+     * @return Returns the nested {@link Either} equivalent to this instance: a {@link Left}
+     * holding the first value, or a {@link Right} holding a {@link Left} with the second value or
+     * a {@link Right} with the third value.
+     * @see #fromEither(Either)
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public Either<A, Either<B, C>> toEither() {
+        switch (tag) {
+            case FIRST:
+                return Left.of((A) value);
+            case SECOND:
+                return Right.of(Left.of((B) value));
+            default:
+                return Right.of(Right.of((C) value));
+        }
+    }
+
+    /**
+     * @return Returns the instance equivalent to the given nested {@link Either}.
+     * @see #toEither()
+     * @since 3.5.0
+     */
+    public static <A, B, C> Either3<A, B, C> fromEither(Either<A, Either<B, C>> either) {
+        // Left and Right are the only subclasses of Either
+        if (either instanceof Left<?, ?>) {
+            return new Either3<>(FIRST, ((Left<A, Either<B, C>>) either).value());
+        }
+        final Either<B, C> inner = ((Right<A, Either<B, C>>) either).value();
+        return inner instanceof Left<?, ?>
+                ? new Either3<>(SECOND, ((Left<B, C>) inner).value())
+                : new Either3<>(THIRD, ((Right<B, C>) inner).value());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Either3)) {
+            return false;
+        }
+        final Either3<?, ?, ?> that = (Either3<?, ?, ?>) o;
+        return tag == that.tag && value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Either3.class, tag, value);
+    }
+
+    @Override
+    public String toString() {
+        switch (tag) {
+            case FIRST:
+                return "First(" + value + ")";
+            case SECOND:
+                return "Second(" + value + ")";
+            default:
+                return "Third(" + value + ")";
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Represents a value of 1 of 4 possible types (disjoint union).
+ * <p>
+ * Unlike nested {@link Either} values such as
+ * <code>Either&lt;A, Either&lt;B, Either&lt;C, D&gt;&gt;&gt;</code>, an instance of this class is a
+ * single object that holds its value and a tag identifying its type: building it takes one
+ * allocation and inspecting it does not traverse nested instances.
+ * <p>
+ * <code>null</code> values are not accepted and will throw exceptions if used in an
+ * {@link Either4} instance.
+ * <p>
+ * This class is not serializable.
+ *
+ * @param <A> Type of the first value
+ * @param <B> Type of the second value
+ * @param <C> Type of the third value
+ * @param <D> Type of the fourth value
+ * @author 2bllw8
+ * @see Either
+ * @since 3.5.0
+ */
+public final class Either4<A, B, C, D> {
+
+    private static final int FIRST = 0;
+    private static final int SECOND = 1;
+    private static final int THIRD = 2;
+    private static final int FOURTH = 3;
+
+    private transient final int tag;
+    private transient final Object value;
+
+    private Either4(int tag, Object value) {
+        this.tag = tag;
+        this.value = Objects.requireNonNull(value);
+    }
+
+    /**
+     * @return Returns an instance holding the given first value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> first(A value) {
+        return new Either4<>(FIRST, value);
+    }
+
+    /**
+     * @return Returns an instance holding the given second value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> second(B value) {
+        return new Either4<>(SECOND, value);
+    }
+
+    /**
+     * @return Returns an instance holding the given third value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> third(C value) {
+        return new Either4<>(THIRD, value);
+    }
+
+    /**
+     * @return Returns an instance holding the given fourth value.
+     * @throws NullPointerException if the value is null
+     * @since 3.5.0
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> fourth(D value) {
+        return new Either4<>(FOURTH, value);
+    }
+
+    /**
+     * @return Returns true if this holds a first value, false otherwise.
+     * @since 3.5.0
+     */
+    public boolean isFirst() {
+        return tag == FIRST;
+    }
+
+    /**
+     * @return Returns true if this holds a second value, false otherwise.
+     * @since 3.5.0
+     */
+    public boolean isSecond() {
+        return tag == SECOND;
+    }
+
+    /**
+     * @return Returns true if this holds a third value, false otherwise.
+     * @since 3.5.0
+     */
+    public boolean isThird() {
+        return tag == THIRD;
+    }
+
+    /**
+     * @return Returns true if this holds a fourth value, false otherwise.
+     * @since 3.5.0
+     */
+    public boolean isFourth() {
+        return tag == FOURTH;
+    }
+
+    /**
+     * Applies the function of the type of the value of this instance.
+     *
+     * @return Returns the result of the application of the function.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R fold(Function<A, R> firstFunction,
+                      Function<B, R> secondFunction,
+                      Function<C, R> thirdFunction,
+                      Function<D, R> fourthFunction) {
+        switch (tag) {
+            case FIRST:
+                return firstFunction.apply((A) value);
+            case SECOND:
+                return secondFunction.apply((B) value);
+            case THIRD:
+                return thirdFunction.apply((C) value);
+            default:
+                return fourthFunction.apply((D) value);
+        }
+    }
+
+    /**
+     * Executes the consumer of the type of the value of this instance.
+     *
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<A> firstConsumer,
+                        Consumer<B> secondConsumer,
+                        Consumer<C> thirdConsumer,
+                        Consumer<D> fourthConsumer) {
+        switch (tag) {
+            case FIRST:
+                firstConsumer.accept((A) value);
+                break;
+            case SECOND:
+                secondConsumer.accept((B) value);
+                break;
+            case THIRD:
+                thirdConsumer.accept((C) value);
+                break;
+            default:
+                fourthConsumer.accept((D) value);
+                break;
+        }
+    }
+
+    /**
+     * @return Returns an instance holding the result of the application of the given function
+     * to the first value if this holds a first value, or this otherwise.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <A1> Either4<A1, B, C, D> mapFirst(Function<A, A1> function) {
+        return tag == FIRST
+                ? new Either4<>(tag, function.apply((A) value))
+                : (Either4<A1, B, C, D>) this;
+    }
+
+    /**
+     * @return Returns an instance holding the result of the application of the given function
+     * to the second value if this holds a second value, or this otherwise.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <B1> Either4<A, B1, C, D> mapSecond(Function<B, B1> function) {
+        return tag == SECOND
+                ? new Either4<>(tag, function.apply((B) value))
+                : (Either4<A, B1, C, D>) this;
+    }
+
+    /**
+     * @return Returns an instance holding the result of the application of the given function
+     * to the third value if this holds a third value, or this otherwise.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <C1> Either4<A, B, C1, D> mapThird(Function<C, C1> function) {
+        return tag == THIRD
+                ? new Either4<>(tag, function.apply((C) value))
+                : (Either4<A, B, C1, D>) this;
+    }
+
+    /**
+     * @return Returns an instance holding the result of the application of the given function
+     * to the fourth value if this holds a fourth value, or this otherwise.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <D1> Either4<A, B, C, D1> mapFourth(Function<D, D1> function) {
+        return tag == FOURTH
+                ? new Either4<>(tag, function.apply((D) value))
+                : (Either4<A, B, C, D1>) this;
+    }
+
+    /**
+     * @return Returns the nested {@link Either} equivalent to this instance: a {@link Left}
+     * holding the first value, or {@link Right}s nesting a {@link Left} with the second or third
+     * value or a {@link Right} with the fourth value.
+     * @see #fromEither(Either)
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public Either<A, Either<B, Either<C, D>>> toEither() {
+        switch (tag) {
+            case FIRST:
+                return Left.of((A) value);
+            case SECOND:
+                return Right.of(Left.of((B) value));
+            case THIRD:
+                return Right.of(Right.of(Left.of((C) value)));
+            default:
+                return Right.of(Right.of(Right.of((D) value)));
+        }
+    }
+
+    /**
+     * @return Returns the instance equivalent to the given nested {@link Either}.
+     * @see #toEither()
+     * @since 3.5.0
+     */
+    public static <A, B, C, D> Either4<A, B, C, D> fromEither(
+            Either<A, Either<B, Either<C, D>>> either) {
+        // Left and Right are the only subclasses of Either
+        if (either instanceof Left<?, ?>) {
+            return new Either4<>(FIRST, ((Left<A, ?>) either).value());
+        }
+        final Either<B, Either<C, D>> second = ((Right<A, Either<B, Either<C, D>>>) either)
+                .value();
+        if (second instanceof Left<?, ?>) {
+            return new Either4<>(SECOND, ((Left<B, ?>) second).value());
+        }
+        final Either<C, D> third = ((Right<B, Either<C, D>>) second).value();
+        return third instanceof Left<?, ?>
+                ? new Either4<>(THIRD, ((Left<C, D>) third).value())
+                : new Either4<>(FOURTH, ((Right<C, D>) third).value());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Either4)) {
+            return false;
+        }
+        final Either4<?, ?, ?, ?> that = (Either4<?, ?, ?, ?>) o;
+        return tag == that.tag && value.equals(that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Either4.class, tag, value);
+    }
+
+    @Override
+    public String toString() {
+        switch (tag) {
+            case FIRST:
+                return "First(" + value + ")";
+            case SECOND:
+                return "Second(" + value + ")";
+            case THIRD:
+                return "Third(" + value + ")";
+            default:
+                return "Fourth(" + value + ")";
+        }
+    }
+}
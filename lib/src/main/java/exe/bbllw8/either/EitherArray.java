@@ -0,0 +1,395 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * A compact, immutable, sequence of {@link Either} values.
+ * <p>
+ * Rather than holding a {@link Left} or {@link Right} instance per element, the side of each
+ * element is stored as a bit of a <code>long[]</code> and the values are stored in a single
+ * array. This avoids the overhead of one object per element and allows bulk operations to scan
+ * contiguous memory.
+ * <p>
+ * Construct an instance using {@link EitherArray#builder()} or {@link EitherArray#collector()}.
+ * <p>
+ * <code>null</code> values are not accepted and will throw exceptions if used in an
+ * EitherArray instance.
+ * <p>
+ * This class is not serializable.
+ *
+ * @param <A> Type of the left values
+ * @param <B> Type of the right values
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class EitherArray<A, B> {
+
+    /**
+     * Bit <code>i</code> is set iff the element at index <code>i</code> is a right value.
+     */
+    private transient final long[] sides;
+    private transient final Object[] values;
+    private transient final int size;
+
+    private EitherArray(long[] sides, Object[] values, int size) {
+        this.sides = sides;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * @return Returns the number of elements in this array.
+     * @since 3.5.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Returns true if the element at the given index is a left value, false otherwise.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public boolean isLeft(int index) {
+        return !isRight(index);
+    }
+
+    /**
+     * @return Returns true if the element at the given index is a right value, false otherwise.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public boolean isRight(int index) {
+        checkIndex(index);
+        return isRightUnchecked(index);
+    }
+
+    /**
+     * @return Returns the element at the given index as a new {@link Either} instance.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public Either<A, B> get(int index) {
+        checkIndex(index);
+        return isRightUnchecked(index)
+                ? new Right<>((B) values[index])
+                : new Left<>((A) values[index]);
+    }
+
+    /**
+     * @return Returns the number of left values in this array.
+     * @since 3.5.0
+     */
+    public int leftCount() {
+        return size - rightCount();
+    }
+
+    /**
+     * @return Returns the number of right values in this array.
+     * @since 3.5.0
+     */
+    public int rightCount() {
+        int count = 0;
+        for (final long word : sides) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Applies the given function to each right value. The left values are kept as they are.
+     *
+     * @return Returns a new array holding the results.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <C> EitherArray<A, C> map(Function<B, C> function) {
+        final Object[] mapped = Arrays.copyOf(values, size);
+        for (int i = nextRight(0); i >= 0; i = nextRight(i + 1)) {
+            mapped[i] = Objects.requireNonNull(function.apply((B) values[i]));
+        }
+        // The sides are never modified and can be shared
+        return new EitherArray<>(sides, mapped, size);
+    }
+
+    /**
+     * Applies functionLeft to each left value and functionRight to each right value.
+     *
+     * @return Returns the results of applying the functions, in the same order of this array.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public <C> List<C> fold(Function<A, C> functionLeft, Function<B, C> functionRight) {
+        final List<C> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(isRightUnchecked(i)
+                    ? functionRight.apply((B) values[i])
+                    : functionLeft.apply((A) values[i]));
+        }
+        return results;
+    }
+
+    /**
+     * Executes the given side-effecting function for each right value.
+     *
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<B> consumer) {
+        for (int i = nextRight(0); i >= 0; i = nextRight(i + 1)) {
+            consumer.accept((B) values[i]);
+        }
+    }
+
+    /**
+     * Executes consumerLeft for each left value and consumerRight for each right value, in the
+     * same order of this array.
+     *
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<A> consumerLeft, Consumer<B> consumerRight) {
+        for (int i = 0; i < size; i++) {
+            if (isRightUnchecked(i)) {
+                consumerRight.accept((B) values[i]);
+            } else {
+                consumerLeft.accept((A) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return Returns the left values of this array, in order.
+     * @see #rights()
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public List<A> lefts() {
+        final List<A> lefts = new ArrayList<>(leftCount());
+        for (int i = 0; i < size; i++) {
+            if (!isRightUnchecked(i)) {
+                lefts.add((A) values[i]);
+            }
+        }
+        return Collections.unmodifiableList(lefts);
+    }
+
+    /**
+     * @return Returns the right values of this array, in order.
+     * @see #lefts()
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public List<B> rights() {
+        final List<B> rights = new ArrayList<>(rightCount());
+        for (int i = nextRight(0); i >= 0; i = nextRight(i + 1)) {
+            rights.add((B) values[i]);
+        }
+        return Collections.unmodifiableList(rights);
+    }
+
+    /**
+     * @return Returns a stream containing the right values of this array.
+     * @since 3.5.0
+     */
+    public Stream<B> stream() {
+        return rights().stream();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EitherArray)) {
+            return false;
+        }
+        final EitherArray<?, ?> that = (EitherArray<?, ?>) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < sides.length; i++) {
+            if (sides[i] != that.sides[i]) {
+                return false;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (!values[i].equals(that.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(EitherArray.class, size);
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Boolean.hashCode(isRightUnchecked(i));
+            hash = 31 * hash + values[i].hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("EitherArray(");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(isRightUnchecked(i) ? "Right(" : "Left(")
+                    .append(values[i])
+                    .append(')');
+        }
+        return sb.append(')').toString();
+    }
+
+    private boolean isRightUnchecked(int index) {
+        return (sides[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * @return Returns the index of the first right value at or after the given index, or
+     * <code>-1</code> if there is none.
+     */
+    private int nextRight(int from) {
+        if (from >= size) {
+            return -1;
+        }
+        int wordIndex = from >>> 6;
+        long word = sides[wordIndex] & (-1L << from);
+        while (word == 0) {
+            if (++wordIndex == sides.length) {
+                return -1;
+            }
+            word = sides[wordIndex];
+        }
+        return wordIndex * 64 + Long.numberOfTrailingZeros(word);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * @return Returns a new builder of {@link EitherArray} instances.
+     * @since 3.5.0
+     */
+    public static <A, B> Builder<A, B> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return Returns a {@link Collector} that accumulates {@link Either} values into an
+     * {@link EitherArray}.
+     * @since 3.5.0
+     */
+    public static <A, B> Collector<Either<A, B>, ?, EitherArray<A, B>> collector() {
+        return Collector.of(Builder<A, B>::new,
+                Builder::add,
+                Builder::addAll,
+                Builder::build);
+    }
+
+    /**
+     * Builder of {@link EitherArray} instances.
+     *
+     * @param <A> Type of the left values
+     * @param <B> Type of the right values
+     * @since 3.5.0
+     */
+    public static final class Builder<A, B> {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] sides = new long[1];
+        private Object[] values = new Object[INITIAL_CAPACITY];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Appends a left value.
+         *
+         * @return Returns this builder.
+         * @since 3.5.0
+         */
+        public Builder<A, B> addLeft(A value) {
+            ensureCapacity(size + 1);
+            values[size++] = Objects.requireNonNull(value);
+            return this;
+        }
+
+        /**
+         * Appends a right value.
+         *
+         * @return Returns this builder.
+         * @since 3.5.0
+         */
+        public Builder<A, B> addRight(B value) {
+            ensureCapacity(size + 1);
+            sides[size >>> 6] |= 1L << size;
+            values[size++] = Objects.requireNonNull(value);
+            return this;
+        }
+
+        /**
+         * Appends the value of the given {@link Either} on its side.
+         *
+         * @return Returns this builder.
+         * @since 3.5.0
+         */
+        public Builder<A, B> add(Either<A, B> either) {
+            either.forEach(this::addLeft, this::addRight);
+            return this;
+        }
+
+        /**
+         * @return Returns a new {@link EitherArray} with the values appended to this builder.
+         * @since 3.5.0
+         */
+        public EitherArray<A, B> build() {
+            return new EitherArray<>(Arrays.copyOf(sides, (size + 63) >>> 6),
+                    Arrays.copyOf(values, size),
+                    size);
+        }
+
+        private Builder<A, B> addAll(Builder<A, B> other) {
+            ensureCapacity(size + other.size);
+            for (int i = 0; i < other.size; i++) {
+                if ((other.sides[i >>> 6] & (1L << i)) != 0) {
+                    sides[size >>> 6] |= 1L << size;
+                }
+                values[size++] = other.values[i];
+            }
+            return this;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > values.length) {
+                values = Arrays.copyOf(values, Math.max(capacity, values.length * 2));
+            }
+            final int words = (capacity + 63) >>> 6;
+            if (words > sides.length) {
+                sides = Arrays.copyOf(sides, Math.max(words, sides.length * 2));
+            }
+        }
+    }
+}
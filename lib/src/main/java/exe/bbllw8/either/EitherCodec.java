@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * {@link Codec} of {@link Either} values.
+ * <p>
+ * Each value is written as a one-byte tag that identifies its side followed by the value
+ * written by the codec of that side. Decoded values that are common constants are shared
+ * instances, as with {@link Either#left(Object)} and {@link Either#right(Object)}.
+ *
+ * @param <A> Type of the left values
+ * @param <B> Type of the right values
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class EitherCodec<A, B> implements Codec<Either<A, B>> {
+
+    private static final byte TAG_LEFT = 0;
+    private static final byte TAG_RIGHT = 1;
+
+    private final Codec<A> leftCodec;
+    private final Codec<B> rightCodec;
+
+    /**
+     * @param leftCodec  The codec of the left values
+     * @param rightCodec The codec of the right values
+     * @since 3.5.0
+     */
+    public EitherCodec(Codec<A> leftCodec, Codec<B> rightCodec) {
+        this.leftCodec = Objects.requireNonNull(leftCodec);
+        this.rightCodec = Objects.requireNonNull(rightCodec);
+    }
+
+    @Override
+    public void encode(Either<A, B> value, DataOutput out) throws IOException {
+        if (value instanceof Left<?, ?>) {
+            out.writeByte(TAG_LEFT);
+            leftCodec.encode(((Left<A, B>) value).value(), out);
+        } else {
+            out.writeByte(TAG_RIGHT);
+            rightCodec.encode(((Right<A, B>) value).value(), out);
+        }
+    }
+
+    @Override
+    public Either<A, B> decode(DataInput in) throws IOException {
+        final byte tag = in.readByte();
+        switch (tag) {
+            case TAG_LEFT:
+                return Left.of(leftCodec.decode(in));
+            case TAG_RIGHT:
+                return Right.of(rightCodec.decode(in));
+            default:
+                throw new IOException("Invalid Either tag: " + tag);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.function.Function;
+
+/**
+ * Scope in which {@link Either} values are unwrapped imperatively, as an alternative to nested
+ * {@link Either#flatMap(Function)} invocations.
+ * <p>
+ * Within the body of {@link #of(Function)}, {@link #bind(Either)} returns the value of a
+ * {@link Right}. When it is given a {@link Left}, the rest of the body is skipped and the left
+ * is the result of the scope:
+ * <pre>{@code
+ * Either<String, Integer> area = EitherScope.of(scope -> {
+ *     int width = scope.bind(parse(w));
+ *     int height = scope.bind(parse(h));
+ *     return width * height;
+ * });
+ * }</pre>
+ * <p>
+ * The body is left through an exception that is preallocated and does not capture a stack
+ * trace: the body must not catch {@link RuntimeException} (or {@link Throwable}) around the
+ * invocations of {@link #bind(Either)} without rethrowing it. Other exceptions thrown by the
+ * body are propagated. A scope must not be used after its body has completed.
+ *
+ * @param <A> Type of the left values
+ * @author 2bllw8
+ * @see TryScope
+ * @since 3.5.0
+ */
+public final class EitherScope<A> {
+
+    private Either<A, ?> left;
+    private boolean closed;
+
+    private EitherScope() {
+    }
+
+    /**
+     * Runs the given body in a new scope.
+     *
+     * @return Returns a {@link Right} holding the result of the body or the first {@link Left}
+     * given to {@link #bind(Either)}.
+     * @throws NullPointerException if the body returns null
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B> Either<A, B> of(Function<EitherScope<A>, B> body) {
+        final EitherScope<A> scope = new EitherScope<>();
+        try {
+            return Right.of(body.apply(scope));
+        } catch (ScopeEscape e) {
+            if (scope.left == null) {
+                // Escape from an enclosing scope
+                throw e;
+            }
+            // A Left does not hold a right value
+            return (Either<A, B>) scope.left;
+        } finally {
+            scope.closed = true;
+        }
+    }
+
+    /**
+     * @return Returns the value of the given {@link Right}, or leaves the body of this scope
+     * with the given {@link Left} as its result.
+     * @throws IllegalStateException if the body of this scope has completed
+     * @since 3.5.0
+     */
+    public <B> B bind(Either<A, B> either) {
+        if (closed) {
+            throw new IllegalStateException("The scope is closed");
+        }
+        if (either instanceof Right<?, ?>) {
+            return ((Right<A, B>) either).value();
+        }
+        left = either;
+        throw ScopeEscape.INSTANCE;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Hooks that emit Java Flight Recorder events.
+ * <p>
+ * This implementation does nothing and is used on Java 8: the multi-release layer for Java 11
+ * and later replaces this class with one that emits the events.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+/* package */ final class Events {
+
+    private Events() {
+    }
+
+    /**
+     * Called before the supplier of {@link Try#from(CheckedSupplier)} is invoked.
+     *
+     * @return Returns a token to be passed to {@link #endFrom(Object, boolean)}.
+     */
+    /* package */ static Object beginFrom() {
+        return null;
+    }
+
+    /**
+     * Called after the supplier of {@link Try#from(CheckedSupplier)} has been invoked.
+     */
+    /* package */ static void endFrom(Object token, boolean success) {
+        // Do nothing
+    }
+
+    /**
+     * Called when a new {@link Failure} is created.
+     */
+    /* package */ static void failure(Throwable throwable) {
+        // Do nothing
+    }
+
+    /**
+     * Called before the recovery function of a {@link Failure} is invoked.
+     *
+     * @return Returns a token to be passed to
+     * {@link #endRecovery(Object, String, Throwable, boolean)}.
+     */
+    /* package */ static Object beginRecovery() {
+        return null;
+    }
+
+    /**
+     * Called after the recovery function of a {@link Failure} has been invoked.
+     */
+    /* package */ static void endRecovery(Object token, String operation, Throwable throwable,
+                                          boolean success) {
+        // Do nothing
+    }
+}
@@ -6,8 +6,12 @@ package exe.bbllw8.either;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -28,8 +32,34 @@ public final class Failure<T> extends Try<T> {
     private transient final Throwable throwable;
 
     public Failure(Throwable throwable) {
+        this(throwable, true);
+    }
+
+    private Failure(Throwable throwable, boolean notify) {
         assertNotFatal(throwable);
         this.throwable = throwable;
+        if (notify) {
+            notifyHooks(throwable);
+        }
+    }
+
+    /**
+     * Notifies the hooks of a failure that is recorded without creating a {@link Failure}, as
+     * its constructor does.
+     */
+    /* package */ static void notifyHooks(Throwable throwable) {
+        Events.failure(throwable);
+        if (OutcomeListeners.ENABLED) {
+            OutcomeListeners.failure(throwable);
+        }
+    }
+
+    /**
+     * @return Returns a {@link Failure} holding a throwable whose failure has already been
+     * reported with {@link #notifyHooks(Throwable)}, without notifying the hooks again.
+     */
+    /* package */ static <T> Failure<T> ofNotified(Throwable throwable) {
+        return new Failure<>(throwable, false);
     }
 
     @Override
@@ -59,12 +89,12 @@ public final class Failure<T> extends Try<T> {
 
     @Override
     public <U> Try<U> flatMap(Function<T, Try<U>> function) {
-        return new Failure<>(throwable);
+        return withType();
     }
 
     @Override
     public <U> Try<U> map(CheckedFunction<T, U> function) {
-        return new Failure<>(throwable);
+        return withType();
     }
 
     @Override
@@ -74,12 +104,22 @@ public final class Failure<T> extends Try<T> {
 
     @Override
     public Try<T> recoverWith(Function<Throwable, Try<T>> function) {
-        return function.apply(throwable);
+        if (function instanceof Recovery<?> && ((Recovery<?>) function).isUnhandled(throwable)) {
+            // Nothing to recover: do not create (and notify) a new Failure of the throwable
+            return this;
+        }
+        final Object event = Events.beginRecovery();
+        final Try<T> result = function.apply(throwable);
+        Events.endRecovery(event, "recoverWith", throwable, result.isSuccess());
+        return result;
     }
 
     @Override
     public Try<T> recover(Function<Throwable, T> function) {
-        return Try.from(() -> function.apply(throwable));
+        final Object event = Events.beginRecovery();
+        final Try<T> result = Try.apply(throwable, function);
+        Events.endRecovery(event, "recover", throwable, result.isSuccess());
+        return result;
     }
 
     @Override
@@ -87,6 +127,16 @@ public final class Failure<T> extends Try<T> {
         return Optional.empty();
     }
 
+    @Override
+    public OptionalInt toOptionalInt(ToIntFunction<T> function) {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalLong toOptionalLong(ToLongFunction<T> function) {
+        return OptionalLong.empty();
+    }
+
     @Override
     public Either<Throwable, T> toEither() {
         return new Left<>(throwable);
@@ -126,10 +176,13 @@ public final class Failure<T> extends Try<T> {
     /**
      * Up-casts this {@link Failure} with another success value type.
      *
+     * @implNote Since a {@link Failure} never holds a value of its type, this instance is
+     * returned rather than a copy.
      * @since 3.1.0
      */
+    @SuppressWarnings("unchecked")
     public <X> Try<X> withType() {
-        return new Failure<>(throwable);
+        return (Try<X>) this;
     }
 
     @Override
@@ -154,10 +207,17 @@ public final class Failure<T> extends Try<T> {
         return "Failure(" + throwable + ')';
     }
 
+    /**
+     * @return Returns the throwable held by this instance.
+     */
+    /* package */ Throwable throwable() {
+        return throwable;
+    }
+
     /**
      * Assert that the given throwable is not fatal.
      */
-    private static void assertNotFatal(Throwable t) {
+    /* package */ static void assertNotFatal(Throwable t) {
         if (t instanceof VirtualMachineError) {
             throw (VirtualMachineError) t;
         } else if (t instanceof LinkageError) {
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Arrays;
+
+/**
+ * Sparse map from the indices of a sequence of results to the {@link Throwable} of the elements
+ * that are failures. Indices are appended in increasing order and are looked up with a binary
+ * search, so that storage is proportional to the number of failures only.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+/* package */ final class FailureIndex {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private Throwable[] throwables = new Throwable[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Records a failure at the given index, which must be greater than all the indices that
+     * have been previously added.
+     */
+    /* package */ void add(int index, Throwable throwable) {
+        if (size == indices.length) {
+            indices = Arrays.copyOf(indices, size * 2);
+            throwables = Arrays.copyOf(throwables, size * 2);
+        }
+        indices[size] = index;
+        throwables[size] = throwable;
+        size++;
+    }
+
+    /**
+     * @return Returns the throwable at the given index, or <code>null</code> if the element at
+     * the given index is not a failure.
+     */
+    /* package */ Throwable get(int index) {
+        final int i = Arrays.binarySearch(indices, 0, size, index);
+        return i < 0 ? null : throwables[i];
+    }
+
+    /**
+     * @return Returns true if the element at the given index is a failure.
+     */
+    /* package */ boolean contains(int index) {
+        return Arrays.binarySearch(indices, 0, size, index) >= 0;
+    }
+
+    /**
+     * @return Returns the number of failures.
+     */
+    /* package */ int size() {
+        return size;
+    }
+
+    /**
+     * @return Returns the index of the i-th failure.
+     */
+    /* package */ int indexAt(int i) {
+        return indices[i];
+    }
+
+    /**
+     * @return Returns the throwable of the i-th failure.
+     */
+    /* package */ Throwable throwableAt(int i) {
+        return throwables[i];
+    }
+}
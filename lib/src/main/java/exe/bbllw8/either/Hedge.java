@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hedged execution of a {@link CheckedSupplier}: if the primary supplier has not completed
+ * within a delay, a backup supplier is started, and so on for each backup. The first
+ * {@link Success} is the result and the attempts that are still running are cancelled.
+ * <pre>{@code
+ * Hedge<String> read = Hedge.builder(() -> replica1.read(key), Duration.ofMillis(20))
+ *         .backup(() -> replica2.read(key))
+ *         .percentileDelay(95.0)
+ *         .build();
+ * Try<String> value = read.get();
+ * }</pre>
+ * <p>
+ * When an attempt fails before the delay has elapsed, the next backup is started immediately.
+ * If all the attempts fail, the result is a {@link Failure} holding a {@link HedgeException}
+ * whose cause is the throwable of the earliest supplier, with the others attached as suppressed
+ * exceptions. Attempts are cancelled by interrupting the thread that runs them.
+ * <p>
+ * The delay is either fixed or, with {@link Builder#percentileDelay(double)}, the given
+ * percentile of the latencies of the primary supplier, estimated with a
+ * {@link LatencyHistogram} and updated every {@value #SAMPLES} samples. When the primary
+ * supplier has not completed by the end of the race, the time it has been running is recorded
+ * as a lower bound of its latency, so that slow primaries are not left out of the estimate.
+ * <p>
+ * By default the attempts run on virtual threads on Java 21 and later, and on a pool of
+ * daemon threads on earlier versions. Instances of this class can be shared between threads.
+ *
+ * @param <T> Type of the supplied value
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class Hedge<T> {
+
+    private static final int SAMPLES = 64;
+
+    private transient final List<CheckedSupplier<T>> suppliers;
+    private transient final Executor executor;
+    private transient final double percentile;
+    private transient final LatencyHistogram latencies;
+    private final AtomicLong samples = new AtomicLong();
+    private volatile long delayNanos;
+
+    private Hedge(List<CheckedSupplier<T>> suppliers, long delayNanos, double percentile,
+                  Executor executor) {
+        this.suppliers = suppliers;
+        this.delayNanos = delayNanos;
+        this.percentile = percentile;
+        this.latencies = percentile > 0.0 ? new LatencyHistogram() : null;
+        this.executor = executor;
+    }
+
+    /**
+     * @param primary The supplier that is started first
+     * @param delay   The delay after which each backup is started, or the initial one if the
+     *                delay is estimated with {@link Builder#percentileDelay(double)}
+     * @return Returns a new builder of {@link Hedge} instances.
+     * @throws IllegalArgumentException if the delay is negative
+     * @since 3.5.0
+     */
+    public static <T> Builder<T> builder(CheckedSupplier<T> primary, Duration delay) {
+        return new Builder<>(primary, delay);
+    }
+
+    /**
+     * Runs the suppliers, waiting for the first one that succeeds or for all of them to fail.
+     * <p>
+     * If the calling thread is interrupted while waiting, the attempts are cancelled, the
+     * interrupt status is restored and a {@link Failure} holding an
+     * {@link InterruptedException} is returned.
+     *
+     * @return Returns the first {@link Success} of the suppliers, or a {@link Failure} if all of
+     * them failed.
+     * @since 3.5.0
+     */
+    public Try<T> get() {
+        final Race race = new Race();
+        final long delay = delayNanos;
+        synchronized (race) {
+            race.launch();
+            long deadline = System.nanoTime() + delay;
+            try {
+                while (race.winner == null) {
+                    final boolean allFailed = race.failed == race.launched;
+                    if (race.launched == suppliers.size()) {
+                        if (allFailed) {
+                            break;
+                        }
+                        race.wait();
+                    } else {
+                        final long remaining = deadline - System.nanoTime();
+                        if (allFailed || remaining <= 0L) {
+                            race.launch();
+                            deadline = System.nanoTime() + delay;
+                        } else {
+                            TimeUnit.NANOSECONDS.timedWait(race, remaining);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                race.cancel();
+                Thread.currentThread().interrupt();
+                return new Failure<>(e);
+            }
+            race.recordPrimary();
+            race.cancel();
+            return race.winner == null
+                    ? race.failure()
+                    : race.winner;
+        }
+    }
+
+    /**
+     * @return Returns the current delay after which a backup is started, in nanoseconds.
+     * @since 3.5.0
+     */
+    public long delayNanos() {
+        return delayNanos;
+    }
+
+    private void recordLatency(long nanos) {
+        latencies.record(nanos);
+        if (samples.incrementAndGet() % SAMPLES == 0) {
+            delayNanos = latencies.percentile(percentile);
+        }
+    }
+
+    /**
+     * State of an invocation of {@link #get()}, guarded by its own monitor.
+     */
+    private final class Race {
+
+        private final List<Attempt> attempts = new ArrayList<>(suppliers.size());
+        private final Throwable[] failures = new Throwable[suppliers.size()];
+        private final long start = System.nanoTime();
+        private int launched;
+        private int failed;
+        private Try<T> winner;
+
+        private void launch() {
+            final Attempt attempt = new Attempt(launched++);
+            attempts.add(attempt);
+            try {
+                executor.execute(attempt);
+            } catch (RejectedExecutionException e) {
+                complete(attempt, null, e);
+            }
+        }
+
+        private void complete(Attempt attempt, T value, Throwable error) {
+            if (error == null) {
+                if (winner == null) {
+                    winner = Success.of(value);
+                }
+            } else {
+                failures[attempt.index] = error;
+                failed++;
+            }
+            attempt.completed = true;
+            notifyAll();
+        }
+
+        private void recordPrimary() {
+            if (latencies != null && !attempts.get(0).completed) {
+                recordLatency(System.nanoTime() - start);
+            }
+        }
+
+        private void cancel() {
+            for (final Attempt attempt : attempts) {
+                attempt.cancelled = true;
+                if (attempt.thread != null) {
+                    attempt.thread.interrupt();
+                    attempt.interrupted = true;
+                }
+            }
+        }
+
+        private Try<T> failure() {
+            for (final Throwable t : failures) {
+                Failure.assertNotFatal(t);
+            }
+            return new Failure<>(new HedgeException(failures));
+        }
+
+        private final class Attempt implements Runnable {
+
+            private final int index;
+            private Thread thread;
+            private boolean cancelled;
+            private boolean interrupted;
+            private boolean completed;
+
+            private Attempt(int index) {
+                this.index = index;
+            }
+
+            @Override
+            @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+            public void run() {
+                synchronized (Race.this) {
+                    if (cancelled) {
+                        return;
+                    }
+                    thread = Thread.currentThread();
+                }
+                final long start = System.nanoTime();
+                T value = null;
+                Throwable error = null;
+                try {
+                    value = suppliers.get(index).get();
+                } catch (Throwable t) {
+                    error = t;
+                }
+                final long latency = System.nanoTime() - start;
+                synchronized (Race.this) {
+                    thread = null;
+                    if (interrupted) {
+                        // Do not leak the interrupt of the cancellation to the next task
+                        Thread.interrupted();
+                    }
+                    if (!cancelled) {
+                        if (index == 0 && latencies != null) {
+                            recordLatency(latency);
+                        }
+                        complete(this, value, error);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder of {@link Hedge} instances.
+     *
+     * @param <T> Type of the supplied value
+     * @since 3.5.0
+     */
+    public static final class Builder<T> {
+
+        private final List<CheckedSupplier<T>> suppliers = new ArrayList<>();
+        private final long delayNanos;
+        private double percentile;
+        private Executor executor = HedgeThreads.EXECUTOR;
+
+        private Builder(CheckedSupplier<T> primary, Duration delay) {
+            if (delay.isNegative()) {
+                throw new IllegalArgumentException("Negative delay: " + delay);
+            }
+            suppliers.add(Objects.requireNonNull(primary));
+            delayNanos = delay.toNanos();
+        }
+
+        /**
+         * Adds a backup supplier, started after the previous ones if none of them has
+         * succeeded within the delay.
+         *
+         * @return Returns this builder.
+         * @since 3.5.0
+         */
+        public Builder<T> backup(CheckedSupplier<T> backup) {
+            suppliers.add(Objects.requireNonNull(backup));
+            return this;
+        }
+
+        /**
+         * Estimates the delay as the given percentile of the latencies of the primary
+         * supplier. The delay given to {@link Hedge#builder(CheckedSupplier, Duration)} is used
+         * until enough latencies have been recorded.
+         *
+         * @param percentile The percentile, greater than 0 and at most 100
+         * @return Returns this builder.
+         * @throws IllegalArgumentException if the percentile is out of range
+         * @since 3.5.0
+         */
+        public Builder<T> percentileDelay(double percentile) {
+            if (!(percentile > 0.0 && percentile <= 100.0)) {
+                throw new IllegalArgumentException("Invalid percentile: " + percentile);
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the attempts.
+         *
+         * @return Returns this builder.
+         * @since 3.5.0
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        /**
+         * @return Returns a {@link Hedge} with the suppliers added so far.
+         * @since 3.5.0
+         */
+        public Hedge<T> build() {
+            return new Hedge<>(new ArrayList<>(suppliers), delayNanos, percentile, executor);
+        }
+    }
+}
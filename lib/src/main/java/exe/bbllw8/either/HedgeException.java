@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Exception held by the {@link Failure} returned by {@link Hedge#get()} when all the attempts
+ * failed. The throwable of the earliest supplier is the cause and the throwables of the others
+ * are suppressed exceptions of this one, so that the throwables of the suppliers are not
+ * modified.
+ * <p>
+ * Instances of this class do not capture the stack trace: the one of the cause locates the
+ * failure.
+ *
+ * @author 2bllw8
+ * @see Hedge
+ * @since 3.5.0
+ */
+public final class HedgeException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param failures The throwables of the suppliers, in the order they were started
+     */
+    /* package */ HedgeException(Throwable[] failures) {
+        super("All " + failures.length + " attempts failed: " + failures[0], failures[0],
+                true, false);
+        for (int i = 1; i < failures.length; i++) {
+            if (failures[i] != failures[0]) {
+                addSuppressed(failures[i]);
+            }
+        }
+    }
+}
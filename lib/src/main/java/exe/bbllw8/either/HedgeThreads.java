@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default executor of the attempts of {@link Hedge}.
+ * <p>
+ * This implementation uses a cached pool of daemon threads and is used on Java 8 to 20: the
+ * multi-release layer for Java 21 and later replaces this class with one that runs each
+ * attempt on a new virtual thread.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+/* package */ final class HedgeThreads {
+
+    /* package */ static final Executor EXECUTOR = newExecutor();
+
+    private HedgeThreads() {
+    }
+
+    private static ExecutorService newExecutor() {
+        final AtomicInteger count = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 30L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> {
+            final Thread thread = new Thread(r, "either-hedge-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
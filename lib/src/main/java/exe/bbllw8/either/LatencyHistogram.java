@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of non-negative <code>long</code> values, such as latencies in
+ * nanoseconds.
+ * <p>
+ * As in HdrHistogram, values are counted in buckets whose width grows with the magnitude of
+ * the values: each power of two is divided into 32 linear sub-buckets, so that recorded values
+ * are reported with a relative error below 1/32 (about 3%) with a fixed memory footprint.
+ * Values from 0 to 31 are counted exactly.
+ * <p>
+ * Recording is wait-free and can be performed concurrently by multiple threads.
+ *
+ * @author 2bllw8
+ * @see MetricsListener
+ * @since 3.5.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @since 3.5.0
+     */
+    public void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(0L, value)));
+    }
+
+    /**
+     * @return Returns the number of recorded values.
+     * @since 3.5.0
+     */
+    public long count() {
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the value at the given percentile of the recorded values, with the precision of
+     * the buckets of this histogram.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return Returns the highest value that is equivalent to the value at the given
+     * percentile, or 0 if no value has been recorded.
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     * @since 3.5.0
+     */
+    public long percentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+        final long[] snapshot = new long[BUCKETS];
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0L) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+        long cumulative = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                return highestValueAt(i);
+            }
+        }
+        return highestValueAt(BUCKETS - 1);
+    }
+
+    /**
+     * Clears all the recorded values.
+     *
+     * @since 3.5.0
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0L);
+        }
+    }
+
+    /* package */ static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /* package */ static long highestValueAt(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS)
+                << (exponent - SUB_BUCKET_BITS);
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return lowest + (width - 1L);
+    }
+}
@@ -6,8 +6,12 @@ package exe.bbllw8.either;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -20,6 +24,8 @@ import java.util.stream.Stream;
  */
 public final class Left<A, B> extends Either<A, B> {
 
+    private static final Object[] CANONICAL = Canonical.instances(Left::new);
+
     private transient final A value;
 
     public Left(A value) {
@@ -93,7 +99,7 @@ public final class Left<A, B> extends Either<A, B> {
 
     @Override
     public LeftProjection<A, B> left() {
-        return new LeftToLeftProjection<>(value);
+        return new LeftToLeftProjection<>(this);
     }
 
     @Override
@@ -103,7 +109,7 @@ public final class Left<A, B> extends Either<A, B> {
 
     @Override
     public Either<B, A> swap() {
-        return new Right<>(value);
+        return Right.of(value);
     }
 
     @Override
@@ -111,6 +117,16 @@ public final class Left<A, B> extends Either<A, B> {
         return Optional.empty();
     }
 
+    @Override
+    public OptionalInt toOptionalInt(ToIntFunction<B> function) {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalLong toOptionalLong(ToLongFunction<B> function) {
+        return OptionalLong.empty();
+    }
+
     /**
      * Up-casts this {@link Left} with another right side type.
      *
@@ -142,6 +158,26 @@ public final class Left<A, B> extends Either<A, B> {
         return "Left(" + value + ")";
     }
 
+    /**
+     * @return Returns the value held by this instance.
+     */
+    /* package */ A value() {
+        return value;
+    }
+
+    /**
+     * @return Returns a {@link Left} holding the given value, which is a shared instance if
+     * the value is a common constant.
+     * @see Canonical
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static <A, B> Left<A, B> of(A value) {
+        final int i = Canonical.indexOf(value);
+        return i < 0
+                ? new Left<>(value)
+                : (Left<A, B>) CANONICAL[i];
+    }
+
     public static <A, B> Either<A, B> flatten(Left<A, Either<A, B>> either) {
         return either.withRight();
     }
@@ -156,62 +192,62 @@ public final class Left<A, B> extends Either<A, B> {
 
     private static final class LeftToLeftProjection<A, B> extends LeftProjection<A, B> {
 
-        private transient final A value;
+        private transient final Left<A, B> left;
 
-        private LeftToLeftProjection(A value) {
-            this.value = value;
+        private LeftToLeftProjection(Left<A, B> left) {
+            this.left = left;
         }
 
         @Override
         public boolean contains(B elem) {
-            return Objects.equals(value, elem);
+            return Objects.equals(left.value, elem);
         }
 
         @Override
         public boolean exists(Function<A, Boolean> predicate) {
-            return predicate.apply(value);
+            return predicate.apply(left.value);
         }
 
         @Override
         public Optional<Either<A, B>> filterToOptional(Function<A, Boolean> predicate) {
-            return predicate.apply(value)
-                    ? Optional.of(new Left<>(value))
+            return predicate.apply(left.value)
+                    ? Optional.of(left)
                     : Optional.empty();
         }
 
         @Override
         public <A1> Either<A1, B> flatMap(Function<A, Either<A1, B>> function) {
-            return function.apply(value);
+            return function.apply(left.value);
         }
 
         @Override
         public boolean forAll(Function<A, Boolean> function) {
-            return function.apply(value);
+            return function.apply(left.value);
         }
 
         @Override
         public void forEach(Consumer<A> consumer) {
-            consumer.accept(value);
+            consumer.accept(left.value);
         }
 
         @Override
         public A getOrElse(A fallback) {
-            return value;
+            return left.value;
         }
 
         @Override
         public <A1> Either<A1, B> map(Function<A, A1> function) {
-            return new Left<>(function.apply(value));
+            return Left.of(function.apply(left.value));
         }
 
         @Override
         public Stream<A> stream() {
-            return Stream.of(value);
+            return Stream.of(left.value);
         }
 
         @Override
         public Optional<A> toOptional() {
-            return Optional.of(value);
+            return Canonical.optional(left.value);
         }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * A throwable that stands in for another one, retaining only the name of its class, its
+ * message and, optionally, its cause and stack trace.
+ * <p>
+ * Instances of this class do not capture the stack trace when they are created, nor do they
+ * record suppressed exceptions. They are used to keep a cheap summary of a throwable whose full
+ * details are not needed.
+ * <p>
+ * Note that code that inspects the type of a throwable (for example with an
+ * <code>instanceof</code> check) will see this class rather than the original one: use
+ * {@link #getOriginalClassName()} instead.
+ *
+ * @author 2bllw8
+ * @see ThrowableCodec
+ * @since 3.5.0
+ */
+public final class LightweightThrowable extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    private final String originalClassName;
+
+    /**
+     * @param originalClassName The name of the class of the original throwable
+     * @param message           The message of the original throwable
+     * @param cause             The cause of the original throwable, or <code>null</code>
+     * @since 3.5.0
+     */
+    public LightweightThrowable(String originalClassName, String message, Throwable cause) {
+        super(message, cause, false, true);
+        this.originalClassName = originalClassName;
+    }
+
+    /**
+     * @return Returns the name of the class of the original throwable.
+     * @since 3.5.0
+     */
+    public String getOriginalClassName() {
+        return originalClassName;
+    }
+
+    /**
+     * Does not capture the stack trace: an empty one is kept unless it is explicitly set with
+     * {@link #setStackTrace(StackTraceElement[])}.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final String message = getLocalizedMessage();
+        return message == null
+                ? originalClassName
+                : originalClassName + ": " + message;
+    }
+
+    /**
+     * Returns a {@link LightweightThrowable} with the class name and message of the given
+     * throwable and of its causes, without their stack traces.
+     *
+     * @since 3.5.0
+     */
+    public static LightweightThrowable of(Throwable throwable) {
+        return of(throwable, 0);
+    }
+
+    private static LightweightThrowable of(Throwable throwable, int depth) {
+        if (throwable instanceof LightweightThrowable) {
+            return (LightweightThrowable) throwable;
+        }
+        final Throwable cause = throwable.getCause();
+        return new LightweightThrowable(throwable.getClass().getName(),
+                throwable.getMessage(),
+                cause == null || cause == throwable || depth == MAX_CAUSE_DEPTH
+                        ? null
+                        : of(cause, depth + 1));
+    }
+}
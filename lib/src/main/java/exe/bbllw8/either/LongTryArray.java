@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * A growable sequence of {@link Try} results with <code>long</code> successful values stored
+ * outside of the Java heap.
+ * <p>
+ * Each successful value occupies 8 bytes of a direct buffer, without any object header or
+ * boxing, while failures are kept in a sparse index that only references the
+ * {@link Throwable} of the failed elements. Holding a large number of results in an instance
+ * of this class instead of a collection of {@link Success} and {@link Failure} objects
+ * dramatically reduces the number of objects the garbage collector has to trace.
+ * {@link Try} instances are created only on demand, through {@link #get(int)}.
+ * <p>
+ * The off-heap memory is released when the instance is garbage collected.
+ * <p>
+ * This class is not thread-safe and it is not serializable.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class LongTryArray extends DirectTryArray<Long> {
+
+    /**
+     * Constructs an empty array with the given initial capacity.
+     *
+     * @param capacity The number of results the array can hold before growing
+     * @throws IllegalArgumentException if the capacity is negative or too large to fit in a
+     *                                  direct buffer
+     * @since 3.5.0
+     */
+    public LongTryArray(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Appends a success.
+     *
+     * @param value The successful value
+     * @since 3.5.0
+     */
+    public void addSuccess(long value) {
+        // Reserve the slot first: the buffer may be replaced to grow it
+        final int offset = offset(nextSlot());
+        buffer().putLong(offset, value);
+    }
+
+    /**
+     * @return Returns the successful value at the given index.
+     * @throws IndexOutOfBoundsException     if the index is out of range
+     * @throws UnsupportedOperationException if the result at the given index is a failure
+     * @since 3.5.0
+     */
+    public long getLong(int index) {
+        return buffer().getLong(successOffset(index));
+    }
+
+    /**
+     * Applies the given function to each successful value.
+     *
+     * @since 3.5.0
+     */
+    public void forEach(LongConsumer consumer) {
+        forEach(consumer, throwable -> {
+            // Do nothing
+        });
+    }
+
+    /**
+     * Applies successConsumer to each successful value and failureConsumer to each failure, in
+     * the same order of this array.
+     *
+     * @since 3.5.0
+     */
+    public void forEach(LongConsumer successConsumer, Consumer<Throwable> failureConsumer) {
+        forEachSlot(offset -> successConsumer.accept(buffer().getLong(offset)), failureConsumer);
+    }
+
+    /**
+     * @return Returns a stream of the successful values of this array.
+     * @since 3.5.0
+     */
+    public LongStream stream() {
+        return successOffsets().mapToLong(offset -> buffer().getLong(offset));
+    }
+
+    @Override
+    /* package */ void addBoxed(Long value) {
+        addSuccess(value);
+    }
+
+    @Override
+    /* package */ Long boxedAt(int offset) {
+        return buffer().getLong(offset);
+    }
+}
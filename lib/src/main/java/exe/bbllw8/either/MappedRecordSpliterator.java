@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the records of a file that is read through windows of memory mapped
+ * regions. Each record is handed to the parser as a read-only slice of the mapped window,
+ * without copying its content.
+ * <p>
+ * A spliterator covers the records that start within the range of bytes
+ * <code>[position, end)</code>: splitting divides the range at a record boundary so that the
+ * records can be parsed in parallel.
+ *
+ * @author 2bllw8
+ * @see TryFiles#fixedRecords(java.nio.file.Path, int, CheckedFunction)
+ * @see TryFiles#delimitedRecords(java.nio.file.Path, byte, CheckedFunction)
+ * @since 3.5.0
+ */
+/* package */ abstract class MappedRecordSpliterator<T> implements Spliterator<Try<T>> {
+
+    /**
+     * Default size of the mapped windows: files larger than this are mapped one window at a
+     * time, which allows reading files larger than 2GB.
+     */
+    /* package */ static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    protected final FileChannel channel;
+    protected final long fileSize;
+    protected final int windowSize;
+    protected final CheckedFunction<ByteBuffer, T> parser;
+
+    private MappedByteBuffer window;
+    protected long windowStart;
+    private int mappings;
+
+    protected long position;
+    protected final long end;
+
+    private MappedRecordSpliterator(FileChannel channel, long fileSize, int windowSize,
+                                    CheckedFunction<ByteBuffer, T> parser, long position,
+                                    long end) {
+        this.channel = channel;
+        this.fileSize = fileSize;
+        this.windowSize = windowSize;
+        this.parser = parser;
+        this.position = position;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Try<T>> action) {
+        if (position >= end) {
+            return false;
+        }
+
+        final ByteBuffer record;
+        try {
+            record = nextRecord();
+        } catch (IOException e) {
+            // Stop at the first I/O error
+            position = end;
+            action.accept(new Failure<>(e));
+            return true;
+        }
+        action.accept(Try.from(record, parser));
+        return true;
+    }
+
+    /**
+     * Reads the record at {@link #position} and moves the position to the start of the
+     * following record.
+     */
+    protected abstract ByteBuffer nextRecord() throws IOException;
+
+    /**
+     * Returns a mapped window that covers the region <code>[from, from + length)</code> of the
+     * file, reusing the current one if possible.
+     */
+    protected final MappedByteBuffer map(long from, int length) throws IOException {
+        if (window == null
+                || from < windowStart
+                || from + length > windowStart + window.capacity()) {
+            final long size = Math.min(Math.max(windowSize, length), fileSize - from);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, from, size);
+            windowStart = from;
+            mappings++;
+        }
+        return window;
+    }
+
+    /**
+     * Returns the current window if it contains the given position, or a new window that
+     * starts at the given position otherwise.
+     */
+    protected final MappedByteBuffer mapAt(long from) throws IOException {
+        return window != null && from >= windowStart && from < windowStart + window.capacity()
+                ? window
+                : map(from, (int) Math.min(windowSize, fileSize - from));
+    }
+
+    /**
+     * @return Returns the number of regions of the file that have been mapped.
+     */
+    /* package */ final int mappings() {
+        return mappings;
+    }
+
+    /**
+     * Returns a slice of the current window that views the region
+     * <code>[from, to)</code> of the file.
+     */
+    protected final ByteBuffer slice(long from, long to) {
+        final ByteBuffer duplicate = window.duplicate();
+        duplicate.position((int) (from - windowStart));
+        duplicate.limit((int) (to - windowStart));
+        return duplicate.slice();
+    }
+
+    /* package */ static <T> MappedRecordSpliterator<T> fixed(
+            FileChannel channel, long fileSize, int windowSize, int recordSize,
+            CheckedFunction<ByteBuffer, T> parser) {
+        return new Fixed<>(channel, fileSize, Math.max(windowSize, recordSize), recordSize,
+                parser, 0L, fileSize);
+    }
+
+    /* package */ static <T> MappedRecordSpliterator<T> delimited(
+            FileChannel channel, long fileSize, int windowSize, byte delimiter,
+            CheckedFunction<ByteBuffer, T> parser) {
+        return new Delimited<>(channel, fileSize, windowSize, delimiter, parser, 0L, fileSize);
+    }
+
+    /**
+     * Records of a fixed number of bytes. If the size of the file is not a multiple of the
+     * record size, the last record is a {@link Failure}.
+     */
+    private static final class Fixed<T> extends MappedRecordSpliterator<T> {
+
+        private final int recordSize;
+
+        private Fixed(FileChannel channel, long fileSize, int windowSize, int recordSize,
+                      CheckedFunction<ByteBuffer, T> parser, long position, long end) {
+            super(channel, fileSize, windowSize, parser, position, end);
+            this.recordSize = recordSize;
+        }
+
+        @Override
+        protected ByteBuffer nextRecord() throws IOException {
+            if (fileSize - position < recordSize) {
+                throw new EOFException("Incomplete record at position " + position);
+            }
+            map(position, recordSize);
+            final ByteBuffer record = slice(position, position + recordSize);
+            position += recordSize;
+            return record;
+        }
+
+        @Override
+        public Spliterator<Try<T>> trySplit() {
+            final long records = estimateSize();
+            if (end - position <= windowSize || records < 2) {
+                return null;
+            }
+            final long mid = position + (records / 2) * recordSize;
+            final Fixed<T> prefix = new Fixed<>(channel, fileSize,
+                    windowSize, recordSize, parser, position, mid);
+            position = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (end - position + recordSize - 1) / recordSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        }
+    }
+
+    /**
+     * Records separated by a delimiter byte. The delimiter is not part of the records and the
+     * last record of the file may not be followed by a delimiter.
+     */
+    private static final class Delimited<T> extends MappedRecordSpliterator<T> {
+
+        private static final int SCAN_BUFFER_SIZE = 8192;
+
+        private final byte delimiter;
+
+        private Delimited(FileChannel channel, long fileSize, int windowSize, byte delimiter,
+                          CheckedFunction<ByteBuffer, T> parser, long position, long end) {
+            super(channel, fileSize, windowSize, parser, position, end);
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        protected ByteBuffer nextRecord() throws IOException {
+            final long from = position;
+            long scan = from;
+            // Reuse the current window until the scan reaches its end
+            MappedByteBuffer window = mapAt(from);
+            while (true) {
+                final long windowEnd = windowStart + window.capacity();
+                for (; scan < windowEnd; scan++) {
+                    if (window.get((int) (scan - windowStart)) == delimiter) {
+                        final ByteBuffer record = slice(from, scan);
+                        position = scan + 1;
+                        return record;
+                    }
+                }
+
+                if (windowEnd == fileSize) {
+                    // Last record, without a trailing delimiter
+                    final ByteBuffer record = slice(from, fileSize);
+                    position = fileSize;
+                    return record;
+                } else if (windowEnd - from >= Integer.MAX_VALUE) {
+                    throw new IOException("Record at position " + from
+                            + " does not fit in a mapped window");
+                }
+                // Map a window that starts at the record, twice as large as the scanned part
+                // if the record is larger than the window
+                final long length = Math.min(Math.min(Math.max(windowSize,
+                        2L * (windowEnd - from)), Integer.MAX_VALUE), fileSize - from);
+                window = map(from, (int) length);
+            }
+        }
+
+        @Override
+        public Spliterator<Try<T>> trySplit() {
+            if (end - position <= windowSize) {
+                return null;
+            }
+
+            final long boundary;
+            try {
+                boundary = nextRecordStart(position + (end - position) / 2);
+            } catch (IOException e) {
+                return null;
+            }
+            if (boundary < 0 || boundary >= end) {
+                return null;
+            }
+
+            final Delimited<T> prefix = new Delimited<>(channel, fileSize,
+                    windowSize, delimiter, parser, position, boundary);
+            position = boundary;
+            return prefix;
+        }
+
+        /**
+         * Returns the position of the first record that starts at or after the given position
+         * and before {@link #end}, or <code>-1</code> if there is none.
+         */
+        private long nextRecordStart(long from) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            long offset = from - 1;
+            while (offset < end) {
+                buffer.clear();
+                final int read = channel.read(buffer, offset);
+                if (read <= 0) {
+                    return -1;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == delimiter) {
+                        return offset + i + 1;
+                    }
+                }
+                offset += read;
+            }
+            return -1;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
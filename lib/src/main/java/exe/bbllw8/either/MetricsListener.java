@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link OutcomeListener} that counts the outcomes it is notified of and records the
+ * latency of {@link Try#from(CheckedSupplier)} in a {@link LatencyHistogram}.
+ * <p>
+ * Counters are {@link LongAdder}s, so that notifications from many threads do not contend on
+ * the same memory location.
+ * <p>
+ * To use it as a global listener, add a
+ * <code>META-INF/services/exe.bbllw8.either.OutcomeListener</code> file containing
+ * <code>exe.bbllw8.either.MetricsListener</code> to the class path and look up the instance
+ * through {@link OutcomeListeners#global()}.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class MetricsListener implements OutcomeListener {
+
+    private final LongAdder tryFromSuccesses = new LongAdder();
+    private final LongAdder tryFromFailures = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder eitherFromLefts = new LongAdder();
+    private final LongAdder eitherFromRights = new LongAdder();
+    private final LatencyHistogram tryFromLatency = new LatencyHistogram();
+
+    @Override
+    public void onTryFrom(boolean success, long durationNanos) {
+        if (success) {
+            tryFromSuccesses.increment();
+        } else {
+            tryFromFailures.increment();
+        }
+        tryFromLatency.record(durationNanos);
+    }
+
+    @Override
+    public void onFailure(Throwable throwable) {
+        failures.increment();
+    }
+
+    @Override
+    public void onEitherFrom(boolean right) {
+        if (right) {
+            eitherFromRights.increment();
+        } else {
+            eitherFromLefts.increment();
+        }
+    }
+
+    /**
+     * @return Returns the number of {@link Try#from(CheckedSupplier)} invocations that
+     * produced a {@link Success}.
+     * @since 3.5.0
+     */
+    public long getTryFromSuccesses() {
+        return tryFromSuccesses.sum();
+    }
+
+    /**
+     * @return Returns the number of {@link Try#from(CheckedSupplier)} invocations that
+     * produced a {@link Failure}.
+     * @since 3.5.0
+     */
+    public long getTryFromFailures() {
+        return tryFromFailures.sum();
+    }
+
+    /**
+     * @return Returns the number of {@link Failure} instances that have been created.
+     * @since 3.5.0
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return Returns the number of {@link Either#from(boolean, java.util.function.Supplier,
+     * java.util.function.Supplier)} evaluations that produced a {@link Left}.
+     * @since 3.5.0
+     */
+    public long getEitherFromLefts() {
+        return eitherFromLefts.sum();
+    }
+
+    /**
+     * @return Returns the number of {@link Either#from(boolean, java.util.function.Supplier,
+     * java.util.function.Supplier)} evaluations that produced a {@link Right}.
+     * @since 3.5.0
+     */
+    public long getEitherFromRights() {
+        return eitherFromRights.sum();
+    }
+
+    /**
+     * @return Returns the histogram of the latencies of {@link Try#from(CheckedSupplier)}, in
+     * nanoseconds.
+     * @since 3.5.0
+     */
+    public LatencyHistogram getTryFromLatency() {
+        return tryFromLatency;
+    }
+
+    /**
+     * Clears all the counters and the histogram.
+     *
+     * @since 3.5.0
+     */
+    public void reset() {
+        tryFromSuccesses.reset();
+        tryFromFailures.reset();
+        failures.reset();
+        eitherFromLefts.reset();
+        eitherFromRights.reset();
+        tryFromLatency.reset();
+    }
+}
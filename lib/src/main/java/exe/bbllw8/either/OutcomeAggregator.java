@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summary of the {@link Try} and {@link Either} outcomes produced by many threads: the number
+ * of outcomes of each kind, the number of failures per class of throwable and of lefts per
+ * value, and the first failures and lefts.
+ * <p>
+ * Outcomes are accepted concurrently without locks: counters are {@link LongAdder}s, which
+ * spread the updates of different threads over different cells, and the counters per class
+ * and per value are created once and then only read from a {@link ConcurrentHashMap}.
+ * A {@link #snapshot()} can be taken at any time without stopping the writers: counters
+ * updated during the snapshot may or may not be included.
+ * <p>
+ * To bound the memory footprint, at most <code>maxLeftValues</code> distinct left values are
+ * counted separately: the lefts holding other values are only counted as a whole.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class OutcomeAggregator {
+
+    private static final int DEFAULT_SAMPLE_SIZE = 16;
+    private static final int DEFAULT_MAX_LEFT_VALUES = 1024;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rights = new LongAdder();
+    private final LongAdder lefts = new LongAdder();
+    private final Map<Class<? extends Throwable>, LongAdder> failuresByClass =
+            new ConcurrentHashMap<>();
+    private final Map<Object, LongAdder> leftsByValue = new ConcurrentHashMap<>();
+    private final Samples firstFailures;
+    private final Samples firstLefts;
+    private final int maxLeftValues;
+
+    /**
+     * Creates an aggregator that keeps the first 16 failures and lefts, and counts up to 1024
+     * distinct left values.
+     *
+     * @since 3.5.0
+     */
+    public OutcomeAggregator() {
+        this(DEFAULT_SAMPLE_SIZE, DEFAULT_MAX_LEFT_VALUES);
+    }
+
+    /**
+     * @param sampleSize    The number of first failures and of first lefts that are kept
+     * @param maxLeftValues The maximum number of distinct left values counted separately
+     * @throws IllegalArgumentException if one of the arguments is negative
+     * @since 3.5.0
+     */
+    public OutcomeAggregator(int sampleSize, int maxLeftValues) {
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("Invalid sample size: " + sampleSize);
+        }
+        if (maxLeftValues < 0) {
+            throw new IllegalArgumentException("Invalid maximum of left values: "
+                    + maxLeftValues);
+        }
+        this.firstFailures = new Samples(sampleSize);
+        this.firstLefts = new Samples(sampleSize);
+        this.maxLeftValues = maxLeftValues;
+    }
+
+    /**
+     * Counts the given {@link Try}.
+     *
+     * @since 3.5.0
+     */
+    public void accept(Try<?> t) {
+        if (t.isSuccess()) {
+            successes.increment();
+        } else {
+            failures.increment();
+            final Throwable throwable = ((Failure<?>) t).throwable();
+            counter(failuresByClass, throwable.getClass()).increment();
+            firstFailures.offer(throwable);
+        }
+    }
+
+    /**
+     * Counts the given {@link Either}.
+     *
+     * @since 3.5.0
+     */
+    public void accept(Either<?, ?> either) {
+        if (either.isRight()) {
+            rights.increment();
+        } else {
+            lefts.increment();
+            final Object value = ((Left<?, ?>) either).value();
+            LongAdder counter = leftsByValue.get(value);
+            if (counter == null && leftsByValue.size() < maxLeftValues) {
+                // The limit may be exceeded by a few values when threads race here
+                counter = counter(leftsByValue, value);
+            }
+            if (counter != null) {
+                counter.increment();
+            }
+            firstLefts.offer(value);
+        }
+    }
+
+    /**
+     * @return Returns a snapshot of the outcomes counted so far.
+     * @since 3.5.0
+     */
+    public Snapshot snapshot() {
+        final Map<Class<? extends Throwable>, Long> byClass = new HashMap<>();
+        failuresByClass.forEach((type, counter) -> byClass.put(type, counter.sum()));
+        final Map<Object, Long> byValue = new HashMap<>();
+        leftsByValue.forEach((value, counter) -> byValue.put(value, counter.sum()));
+        return new Snapshot(successes.sum(), failures.sum(), rights.sum(), lefts.sum(),
+                Collections.unmodifiableMap(byClass), Collections.unmodifiableMap(byValue),
+                firstFailures.toList(), firstLefts.toList());
+    }
+
+    private static <K> LongAdder counter(Map<K, LongAdder> counters, K key) {
+        // Avoid the locking of computeIfAbsent once the counter exists
+        final LongAdder counter = counters.get(key);
+        return counter == null
+                ? counters.computeIfAbsent(key, k -> new LongAdder())
+                : counter;
+    }
+
+    /**
+     * The first elements offered, up to a fixed number.
+     */
+    private static final class Samples {
+
+        private final AtomicReferenceArray<Object> elements;
+        private final AtomicInteger claimed = new AtomicInteger();
+
+        private Samples(int size) {
+            elements = new AtomicReferenceArray<>(size);
+        }
+
+        private void offer(Object element) {
+            // Check before claiming a slot, so that a full sample is read-only
+            if (claimed.get() < elements.length()) {
+                final int i = claimed.getAndIncrement();
+                if (i < elements.length()) {
+                    elements.set(i, element);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> List<T> toList() {
+            final int size = Math.min(claimed.get(), elements.length());
+            final List<T> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final Object element = elements.get(i);
+                // A claimed slot may not have been set yet
+                if (element != null) {
+                    list.add((T) element);
+                }
+            }
+            return Collections.unmodifiableList(list);
+        }
+    }
+
+    /**
+     * Immutable summary of the outcomes counted by an {@link OutcomeAggregator}.
+     *
+     * @since 3.5.0
+     */
+    public static final class Snapshot {
+
+        private final long successes;
+        private final long failures;
+        private final long rights;
+        private final long lefts;
+        private final Map<Class<? extends Throwable>, Long> failuresByClass;
+        private final Map<Object, Long> leftsByValue;
+        private final List<Throwable> firstFailures;
+        private final List<Object> firstLefts;
+
+        private Snapshot(long successes, long failures, long rights, long lefts,
+                         Map<Class<? extends Throwable>, Long> failuresByClass,
+                         Map<Object, Long> leftsByValue, List<Throwable> firstFailures,
+                         List<Object> firstLefts) {
+            this.successes = successes;
+            this.failures = failures;
+            this.rights = rights;
+            this.lefts = lefts;
+            this.failuresByClass = failuresByClass;
+            this.leftsByValue = leftsByValue;
+            this.firstFailures = firstFailures;
+            this.firstLefts = firstLefts;
+        }
+
+        /**
+         * @return Returns the number of {@link Success} outcomes.
+         * @since 3.5.0
+         */
+        public long successes() {
+            return successes;
+        }
+
+        /**
+         * @return Returns the number of {@link Failure} outcomes.
+         * @since 3.5.0
+         */
+        public long failures() {
+            return failures;
+        }
+
+        /**
+         * @return Returns the number of {@link Right} outcomes.
+         * @since 3.5.0
+         */
+        public long rights() {
+            return rights;
+        }
+
+        /**
+         * @return Returns the number of {@link Left} outcomes.
+         * @since 3.5.0
+         */
+        public long lefts() {
+            return lefts;
+        }
+
+        /**
+         * @return Returns the number of {@link Failure} outcomes per class of their throwable.
+         * @since 3.5.0
+         */
+        public Map<Class<? extends Throwable>, Long> failuresByClass() {
+            return failuresByClass;
+        }
+
+        /**
+         * @return Returns the number of {@link Left} outcomes per value, for the values that
+         * are counted separately.
+         * @since 3.5.0
+         */
+        public Map<Object, Long> leftsByValue() {
+            return leftsByValue;
+        }
+
+        /**
+         * @return Returns the throwables of the first {@link Failure} outcomes.
+         * @since 3.5.0
+         */
+        public List<Throwable> firstFailures() {
+            return firstFailures;
+        }
+
+        /**
+         * @return Returns the values of the first {@link Left} outcomes.
+         * @since 3.5.0
+         */
+        public List<Object> firstLefts() {
+            return firstLefts;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot(successes=" + successes
+                    + ", failures=" + failures
+                    + ", rights=" + rights
+                    + ", lefts=" + lefts
+                    + ", failuresByClass=" + failuresByClass
+                    + ", leftsByValue=" + leftsByValue + ')';
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.function.Supplier;
+
+/**
+ * Listener that is notified of the outcomes of {@link Try} and {@link Either} computations.
+ * <p>
+ * Global listeners are registered as service providers of this interface and loaded through
+ * {@link java.util.ServiceLoader} when the library is first used. Listeners can also be
+ * installed for the scope of a computation with
+ * {@link OutcomeListeners#withScope(OutcomeListener, Supplier)}.
+ * <p>
+ * Listeners are invoked synchronously by the thread that produces the outcome, so their
+ * implementations must be thread-safe and fast.
+ *
+ * @author 2bllw8
+ * @see OutcomeListeners
+ * @see MetricsListener
+ * @since 3.5.0
+ */
+public interface OutcomeListener {
+
+    /**
+     * Invoked when {@link Try#from(CheckedSupplier)} completes.
+     *
+     * @param success       Whether the supplier returned a value
+     * @param durationNanos The time taken by the supplier, in nanoseconds
+     */
+    default void onTryFrom(boolean success, long durationNanos) {
+    }
+
+    /**
+     * Invoked when a new {@link Failure} is created.
+     *
+     * @param throwable The throwable held by the failure
+     */
+    default void onFailure(Throwable throwable) {
+    }
+
+    /**
+     * Invoked when {@link Either#from(boolean, Supplier, Supplier)} is evaluated.
+     *
+     * @param right Whether a {@link Right} was produced
+     */
+    default void onEitherFrom(boolean right) {
+    }
+}
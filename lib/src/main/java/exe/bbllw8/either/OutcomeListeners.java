@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the {@link OutcomeListener}s.
+ * <p>
+ * The global listeners are loaded through {@link ServiceLoader} when this class is
+ * initialized. If no global listener is found, notifications are disabled altogether and the
+ * instrumented code paths reduce to the check of a constant that the JIT compiler removes.
+ * <p>
+ * Scoped listeners, installed through {@link #withScope(OutcomeListener, Supplier)}, are only
+ * notified while notifications are enabled: either because at least one global listener has
+ * been registered, or because the <code>exe.bbllw8.either.listeners</code> system property is
+ * set to <code>true</code>.
+ * <p>
+ * Exceptions thrown by a listener do not affect the outcome it is notified of, nor the other
+ * listeners: they are reported to the uncaught exception handler of the current thread.
+ *
+ * @author 2bllw8
+ * @see OutcomeListener
+ * @since 3.5.0
+ */
+public final class OutcomeListeners {
+
+    /**
+     * Name of the system property that enables notifications regardless of the presence of
+     * global listeners.
+     *
+     * @since 3.5.0
+     */
+    public static final String PROPERTY_ENABLED = "exe.bbllw8.either.listeners";
+
+    private static final OutcomeListener[] GLOBAL = load();
+    private static final ThreadLocal<OutcomeListener> SCOPED = new ThreadLocal<>();
+
+    /* package */ static final boolean ENABLED = GLOBAL.length > 0
+            || Boolean.getBoolean(PROPERTY_ENABLED);
+
+    private OutcomeListeners() {
+    }
+
+    /**
+     * @return Returns true if listeners are notified, false otherwise.
+     * @since 3.5.0
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @return Returns the global listeners loaded through {@link ServiceLoader}.
+     * @since 3.5.0
+     */
+    public static List<OutcomeListener> global() {
+        final List<OutcomeListener> list = new ArrayList<>(GLOBAL.length);
+        Collections.addAll(list, GLOBAL);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Evaluates the given supplier while notifying the given listener, in addition to the
+     * global ones, of the outcomes produced by the current thread. Scopes can be nested: the
+     * innermost listener replaces the outer ones until it returns.
+     *
+     * @return Returns the value returned by the supplier.
+     * @since 3.5.0
+     */
+    public static <T> T withScope(OutcomeListener listener, Supplier<T> supplier) {
+        Objects.requireNonNull(listener);
+        final OutcomeListener outer = SCOPED.get();
+        SCOPED.set(listener);
+        try {
+            return supplier.get();
+        } finally {
+            if (outer == null) {
+                SCOPED.remove();
+            } else {
+                SCOPED.set(outer);
+            }
+        }
+    }
+
+    /* package */ static void tryFrom(boolean success, long startNanos) {
+        final long duration = System.nanoTime() - startNanos;
+        for (final OutcomeListener listener : GLOBAL) {
+            try {
+                listener.onTryFrom(success, duration);
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+        final OutcomeListener scoped = SCOPED.get();
+        if (scoped != null) {
+            try {
+                scoped.onTryFrom(success, duration);
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+    }
+
+    /* package */ static void failure(Throwable throwable) {
+        for (final OutcomeListener listener : GLOBAL) {
+            try {
+                listener.onFailure(throwable);
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+        final OutcomeListener scoped = SCOPED.get();
+        if (scoped != null) {
+            try {
+                scoped.onFailure(throwable);
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+    }
+
+    /* package */ static void eitherFrom(boolean right) {
+        for (final OutcomeListener listener : GLOBAL) {
+            try {
+                listener.onEitherFrom(right);
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+        final OutcomeListener scoped = SCOPED.get();
+        if (scoped != null) {
+            try {
+                scoped.onEitherFrom(right);
+            } catch (RuntimeException e) {
+                report(e);
+            }
+        }
+    }
+
+    /**
+     * Reports an exception thrown by a listener to the uncaught exception handler of the
+     * current thread, without propagating it to the instrumented code.
+     */
+    private static void report(RuntimeException e) {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    private static OutcomeListener[] load() {
+        final List<OutcomeListener> listeners = new ArrayList<>();
+        for (final OutcomeListener listener : ServiceLoader.load(OutcomeListener.class)) {
+            listeners.add(listener);
+        }
+        return listeners.toArray(new OutcomeListener[0]);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link CheckedFunction} composed of a sequence of stages, each applied to the result of the
+ * previous one.
+ * <p>
+ * Unlike functions composed with nested lambdas, a pipeline keeps its stages in a flat array
+ * and applies them in a loop: the depth of the stack does not grow with the number of stages.
+ * Composing a pipeline with another one concatenates their stages. The default
+ * {@link CheckedFunction#andThen(CheckedFunction)} and
+ * {@link CheckedFunction#compose(CheckedFunction)} methods return pipelines.
+ * <p>
+ * The stages of the pipelines built from each other share an array with room on both ends:
+ * appending or prepending stages to the pipeline that last extended the array does not copy
+ * the existing stages, so building a pipeline of <code>n</code> stages one at a time takes
+ * <code>O(n)</code> time in either direction.
+ * <pre>{@code
+ * Pipeline<String, Integer> parse = Pipeline.<String>identity()
+ *         .andThen(String::trim)
+ *         .andThen(Integer::parseInt)
+ *         .andThen(x -> Math.multiplyExact(x, 1000));
+ * Try<Integer> result = parse.run(input);
+ * }</pre>
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @param <T> the type of the input to the pipeline
+ * @param <R> the type of the result of the pipeline
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class Pipeline<T, R> implements CheckedFunction<T, R> {
+
+    private static final int MIN_CAPACITY = 4;
+    private static final Pipeline<?, ?> IDENTITY = new Pipeline<>(new Stages(0, 0, 0), 0, 0);
+
+    private transient final Stages stages;
+    private transient final int from;
+    private transient final int to;
+
+    private Pipeline(Stages stages, int from, int to) {
+        this.stages = stages;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return Returns a pipeline without stages, which returns its input.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Pipeline<T, T> identity() {
+        return (Pipeline<T, T>) IDENTITY;
+    }
+
+    /**
+     * @return Returns a pipeline made of the given function, or the function itself if it is a
+     * pipeline.
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Pipeline<T, R> of(CheckedFunction<T, R> function) {
+        if (function instanceof Pipeline<?, ?>) {
+            return (Pipeline<T, R>) function;
+        }
+        final Stages stages = new Stages(1, 0, 1);
+        stages.array[0] = Objects.requireNonNull(function);
+        return new Pipeline<>(stages, 0, 1);
+    }
+
+    /**
+     * @return Returns the number of stages of this pipeline.
+     * @since 3.5.0
+     */
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * Applies the stages of this pipeline in order. The exception thrown by a stage is relayed
+     * to the caller.
+     *
+     * @since 3.5.0
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public R apply(T t) throws Throwable {
+        final CheckedFunction<?, ?>[] array = stages.array;
+        Object value = t;
+        for (int i = from; i < to; i++) {
+            value = ((CheckedFunction) array[i]).apply(value);
+        }
+        return (R) value;
+    }
+
+    /**
+     * Applies the stages of this pipeline in order. This method will ensure any non-fatal
+     * exception is caught and a {@link Failure} is returned.
+     * <p>
+     * As with {@link Try#from(Object, CheckedFunction)}, the {@link StackCapture} policy is
+     * applied to the caught exceptions and the outcome is reported to the
+     * {@link OutcomeListeners} and to Java Flight Recorder.
+     *
+     * @return Returns a {@link Success} holding the result of the last stage, or a
+     * {@link Failure} holding a {@link PipelineException} that records the index of the stage
+     * that threw and whose cause is the exception it threw.
+     * @since 3.5.0
+     */
+    @SuppressWarnings({"unchecked", "rawtypes", "PMD.AvoidCatchingThrowable"})
+    public Try<R> run(T input) {
+        final Object event = Events.beginFrom();
+        final long start = OutcomeListeners.ENABLED ? System.nanoTime() : 0L;
+        final CheckedFunction<?, ?>[] array = stages.array;
+        Object value = input;
+        int i = from;
+        try {
+            for (; i < to; i++) {
+                value = ((CheckedFunction) array[i]).apply(value);
+            }
+        } catch (Throwable t) {
+            Failure.assertNotFatal(t);
+            return Try.failed(event, start, new PipelineException(i - from,
+                    StackCapture.Config.ENABLED
+                            ? StackCapture.capture(t, array[i].getClass())
+                            : t));
+        }
+        return Try.succeeded(event, start, (R) value);
+    }
+
+    /**
+     * Returns a pipeline that applies the stages of this pipeline and then the given function.
+     * If the function is a pipeline, its stages are appended.
+     *
+     * @throws NullPointerException if after is null
+     * @since 3.5.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Pipeline<T, V> andThen(CheckedFunction<R, V> after) {
+        final Pipeline<R, V> next = of(after);
+        final int count = next.size();
+        if (count == 0) {
+            return (Pipeline<T, V>) this;
+        } else if (size() == 0) {
+            return (Pipeline<T, V>) next;
+        } else if (to + count <= stages.array.length
+                && stages.tail.compareAndSet(to, to + count)) {
+            // No other pipeline has claimed the slots after the stages of this one
+            System.arraycopy(next.stages.array, next.from, stages.array, to, count);
+            return new Pipeline<>(stages, from, to + count);
+        }
+        return concat(this, next);
+    }
+
+    /**
+     * Returns a pipeline that applies the given function and then the stages of this pipeline.
+     * If the function is a pipeline, its stages are prepended.
+     *
+     * @throws NullPointerException if before is null
+     * @since 3.5.0
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> Pipeline<V, R> compose(CheckedFunction<V, T> before) {
+        final Pipeline<V, T> previous = of(before);
+        final int count = previous.size();
+        if (count == 0) {
+            return (Pipeline<V, R>) this;
+        } else if (size() == 0) {
+            return (Pipeline<V, R>) previous;
+        } else if (from - count >= 0
+                && stages.head.compareAndSet(from, from - count)) {
+            // No other pipeline has claimed the slots before the stages of this one
+            System.arraycopy(previous.stages.array, previous.from, stages.array, from - count,
+                    count);
+            return new Pipeline<>(stages, from - count, to);
+        }
+        return concat(previous, this);
+    }
+
+    /**
+     * @return Returns a pipeline with the stages of first followed by the ones of second, in a
+     * new array with room for as many stages on both ends.
+     */
+    private static <T, R> Pipeline<T, R> concat(Pipeline<?, ?> first, Pipeline<?, ?> second) {
+        final int size = first.size() + second.size();
+        final int capacity = Math.max(MIN_CAPACITY, 2 * size);
+        final int from = (capacity - size) / 2;
+        final Stages stages = new Stages(capacity, from, from + size);
+        System.arraycopy(first.stages.array, first.from, stages.array, from, first.size());
+        System.arraycopy(second.stages.array, second.from, stages.array, from + first.size(),
+                second.size());
+        return new Pipeline<>(stages, from, from + size);
+    }
+
+    /**
+     * Stages shared by the pipelines built by appending or prepending to each other. Only the
+     * stages between <code>from</code> and <code>to</code> belong to a pipeline: the slots
+     * around them are claimed by moving {@link #head} and {@link #tail}, so that each slot is
+     * written once.
+     */
+    private static final class Stages {
+
+        private final CheckedFunction<?, ?>[] array;
+        private final AtomicInteger head;
+        private final AtomicInteger tail;
+
+        private Stages(int capacity, int head, int tail) {
+            this.array = new CheckedFunction<?, ?>[capacity];
+            this.head = new AtomicInteger(head);
+            this.tail = new AtomicInteger(tail);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Exception held by the {@link Failure} returned by {@link Pipeline#run(Object)}, recording
+ * which stage of the pipeline failed. The exception thrown by the stage is the cause.
+ * <p>
+ * Instances of this class do not capture the stack trace: the one of the cause locates the
+ * failure.
+ *
+ * @author 2bllw8
+ * @see Pipeline
+ * @since 3.5.0
+ */
+public final class PipelineException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int stage;
+
+    /**
+     * @param stage The index of the stage that failed
+     * @param cause The exception thrown by the stage
+     * @since 3.5.0
+     */
+    public PipelineException(int stage, Throwable cause) {
+        super("Stage " + stage + " failed: " + cause, cause, false, false);
+        this.stage = stage;
+    }
+
+    /**
+     * @return Returns the index of the stage that failed, starting from 0.
+     * @since 3.5.0
+     */
+    public int getStage() {
+        return stage;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Recovery function that dispatches a {@link Throwable} to the handler registered for the most
+ * specific of its classes, to be used with {@link Try#recoverWith(Function)}:
+ * <pre>{@code
+ * Recovery<String> recovery = Recovery.<String>builder()
+ *         .on(FileNotFoundException.class, e -> Try.success(""))
+ *         .on(IOException.class, e -> Try.from(() -> readBackup()))
+ *         .build();
+ * Try<String> text = Try.from(() -> read()).recoverWith(recovery);
+ * }</pre>
+ * <p>
+ * Unlike a sequence of <code>instanceof</code> checks, the handler of each class of throwables
+ * is resolved once, by walking its superclasses, and then cached in a {@link ClassValue} of the
+ * instance: the dispatch does not depend on the number of handlers, and the cache neither grows
+ * with nor keeps alive the classes of throwables that are no longer used. Throwables without a handler are returned in a
+ * {@link Failure}, unless a fallback is set with {@link Builder#otherwise(Function)}: when used
+ * with {@link Try#recoverWith(Function)}, the original {@link Failure} is returned.
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ *
+ * @param <T> Type of the recovered value
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class Recovery<T> implements Function<Throwable, Try<T>> {
+
+    /**
+     * Handler of the throwables without a handler when no fallback is set.
+     */
+    private static final Function<Throwable, Try<Object>> UNHANDLED = Failure::new;
+
+    private transient final Map<Class<?>, Function<Throwable, Try<T>>> handlers;
+    private transient final Function<Throwable, Try<T>> fallback;
+    private transient final ClassValue<Function<Throwable, Try<T>>> dispatch =
+            new ClassValue<Function<Throwable, Try<T>>>() {
+                @Override
+                protected Function<Throwable, Try<T>> computeValue(Class<?> type) {
+                    return resolve(type);
+                }
+            };
+
+    private Recovery(Map<Class<?>, Function<Throwable, Try<T>>> handlers,
+                     Function<Throwable, Try<T>> fallback) {
+        this.handlers = handlers;
+        this.fallback = fallback;
+    }
+
+    /**
+     * @return Returns a new builder of {@link Recovery} functions.
+     * @since 3.5.0
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * @return Returns the result of the application of the handler registered for the most
+     * specific class of the given throwable.
+     * @since 3.5.0
+     */
+    @Override
+    public Try<T> apply(Throwable throwable) {
+        return dispatch.get(throwable.getClass()).apply(throwable);
+    }
+
+    /**
+     * @return Returns true if there is neither a handler for the class of the given throwable
+     * nor a fallback, false otherwise.
+     */
+    /* package */ boolean isUnhandled(Throwable throwable) {
+        return (Object) dispatch.get(throwable.getClass()) == UNHANDLED;
+    }
+
+    /**
+     * Resolves the handler of a class by walking its superclasses.
+     */
+    @SuppressWarnings("unchecked")
+    private Function<Throwable, Try<T>> resolve(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            final Function<Throwable, Try<T>> handler = handlers.get(c);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return fallback == null
+                ? (Function<Throwable, Try<T>>) (Function<?, ?>) UNHANDLED
+                : fallback;
+    }
+
+    /**
+     * Builder of {@link Recovery} instances.
+     *
+     * @param <T> Type of the recovered value
+     * @since 3.5.0
+     */
+    public static final class Builder<T> {
+
+        private final Map<Class<?>, Function<Throwable, Try<T>>> handlers = new HashMap<>();
+        private Function<Throwable, Try<T>> fallback;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the handler of the throwables of the given class and of its subclasses that
+         * do not have a more specific handler.
+         *
+         * @return Returns this builder.
+         * @throws IllegalArgumentException if a handler is already registered for the class
+         * @since 3.5.0
+         */
+        @SuppressWarnings("unchecked")
+        public <E extends Throwable> Builder<T> on(Class<E> type,
+                                                   Function<? super E, Try<T>> handler) {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(handler);
+            if (handlers.putIfAbsent(type, (Function<Throwable, Try<T>>) handler) != null) {
+                throw new IllegalArgumentException("A handler is already registered for "
+                        + type.getName());
+            }
+            return this;
+        }
+
+        /**
+         * Registers the handler of the throwables of the given class and of its subclasses that
+         * do not have a more specific handler, whose result is returned in a {@link Success}.
+         * As with {@link Try#recover(Function)}, the exceptions thrown by the handler are
+         * returned in a {@link Failure}.
+         *
+         * @return Returns this builder.
+         * @throws IllegalArgumentException if a handler is already registered for the class
+         * @since 3.5.0
+         */
+        public <E extends Throwable> Builder<T> recover(Class<E> type,
+                                                        Function<? super E, T> handler) {
+            Objects.requireNonNull(handler);
+            return on(type, e -> Try.apply(e, handler));
+        }
+
+        /**
+         * Sets the handler of the throwables without a registered handler. By default, they are
+         * returned in a {@link Failure}.
+         *
+         * @return Returns this builder.
+         * @since 3.5.0
+         */
+        public Builder<T> otherwise(Function<Throwable, Try<T>> fallback) {
+            this.fallback = Objects.requireNonNull(fallback);
+            return this;
+        }
+
+        /**
+         * @return Returns a {@link Recovery} with the handlers registered so far.
+         * @since 3.5.0
+         */
+        public Recovery<T> build() {
+            return new Recovery<>(new HashMap<>(handlers), fallback);
+        }
+    }
+}
@@ -6,8 +6,12 @@ package exe.bbllw8.either;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -20,6 +24,8 @@ import java.util.stream.Stream;
  */
 public final class Right<A, B> extends Either<A, B> {
 
+    private static final Object[] CANONICAL = Canonical.instances(Right::new);
+
     private transient final B value;
 
     public Right(B value) {
@@ -85,7 +91,7 @@ public final class Right<A, B> extends Either<A, B> {
 
     @Override
     public <C> Either<A, C> map(Function<B, C> function) {
-        return new Right<>(function.apply(value));
+        return Right.of(function.apply(value));
     }
 
     @Override
@@ -105,12 +111,22 @@ public final class Right<A, B> extends Either<A, B> {
 
     @Override
     public Either<B, A> swap() {
-        return new Left<>(value);
+        return Left.of(value);
     }
 
     @Override
     public Optional<B> toOptional() {
-        return Optional.of(value);
+        return Canonical.optional(value);
+    }
+
+    @Override
+    public OptionalInt toOptionalInt(ToIntFunction<B> function) {
+        return OptionalInt.of(function.applyAsInt(value));
+    }
+
+    @Override
+    public OptionalLong toOptionalLong(ToLongFunction<B> function) {
+        return OptionalLong.of(function.applyAsLong(value));
     }
 
     /**
@@ -144,6 +160,26 @@ public final class Right<A, B> extends Either<A, B> {
         return "Right(" + value + ")";
     }
 
+    /**
+     * @return Returns the value held by this instance.
+     */
+    /* package */ B value() {
+        return value;
+    }
+
+    /**
+     * @return Returns a {@link Right} holding the given value, which is a shared instance if
+     * the value is a common constant.
+     * @see Canonical
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static <A, B> Right<A, B> of(B value) {
+        final int i = Canonical.indexOf(value);
+        return i < 0
+                ? new Right<>(value)
+                : (Right<A, B>) CANONICAL[i];
+    }
+
     public static <A, B> Either<A, B> flatten(Right<A, Either<A, B>> either) {
         return either.value;
     }
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Exception thrown by {@link TryScope#bind(Try)} and {@link EitherScope#bind(Either)} to leave
+ * the body of a scope early.
+ * <p>
+ * A single instance is shared: it does not capture a stack trace, does not record suppressed
+ * exceptions and carries no state. The value that caused the escape is held by the scope
+ * itself, which lets nested scopes tell whether an escape is addressed to them.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+/* package */ final class ScopeEscape extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /* package */ static final ScopeEscape INSTANCE = new ScopeEscape();
+
+    private ScopeEscape() {
+        super("Escape from a scope: it should not be caught outside of it", null, false, false);
+    }
+}
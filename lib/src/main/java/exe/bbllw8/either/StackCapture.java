@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Policy that determines whether the throwables caught by {@link Try#from(CheckedSupplier)}
+ * and passed to {@link Try#failure(Throwable)} keep their stack traces, or have them cleared.
+ * <p>
+ * Clearing the stack traces of a throwable and of its causes reduces the memory retained by
+ * long-lived failures and the cost of formatting or serializing them, at the price of
+ * debuggability. The throwable instance is kept, so that its type, message and causes are
+ * unchanged and handlers that dispatch on the type of the throwable, such as
+ * {@link Recovery}, behave the same with every policy. The stack of a caught throwable has
+ * already been walked when it was created: the policy does not avoid that cost.
+ * <p>
+ * The policy is configured at startup with the following system properties:
+ * <ul>
+ *     <li><code>exe.bbllw8.either.stackCapture</code>: the name of the policy, <code>full</code>
+ *         by default</li>
+ *     <li><code>exe.bbllw8.either.stackSampleRate</code>: for the {@link #SAMPLED} policy, the
+ *         number of failures per kept throwable, <code>100</code> by default</li>
+ * </ul>
+ * Fatal errors are always thrown, regardless of the policy.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public enum StackCapture {
+    /**
+     * Stack traces are always kept.
+     */
+    FULL,
+    /**
+     * Stack traces are always cleared.
+     */
+    NONE,
+    /**
+     * The stack trace of one throwable every <code>exe.bbllw8.either.stackSampleRate</code>,
+     * chosen at random, is kept. The others are cleared.
+     */
+    SAMPLED,
+    /**
+     * For each call site of {@link Try#from(CheckedSupplier)} (identified by the class of the
+     * supplier) and for each class of throwable passed to {@link Try#failure(Throwable)}, the
+     * stack trace of the first throwable is kept. The others are cleared.
+     */
+    FIRST_PER_SITE;
+
+    /**
+     * Name of the system property that selects the policy.
+     *
+     * @since 3.5.0
+     */
+    public static final String PROPERTY_MODE = "exe.bbllw8.either.stackCapture";
+
+    /**
+     * Name of the system property that sets the sample rate of the {@link #SAMPLED} policy.
+     *
+     * @since 3.5.0
+     */
+    public static final String PROPERTY_SAMPLE_RATE = "exe.bbllw8.either.stackSampleRate";
+
+    private static final int DEFAULT_SAMPLE_RATE = 100;
+    private static final int MAX_CAUSE_DEPTH = 8;
+    private static final StackTraceElement[] EMPTY_STACK_TRACE = {};
+
+    private static final ClassValue<AtomicBoolean> SEEN = new ClassValue<AtomicBoolean>() {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> type) {
+            return new AtomicBoolean(false);
+        }
+    };
+
+    /**
+     * @return Returns the policy selected at startup through the system properties.
+     * @since 3.5.0
+     */
+    public static StackCapture current() {
+        return Config.MODE;
+    }
+
+    /**
+     * Applies this policy to the given throwable.
+     *
+     * @param throwable  The throwable whose stack trace is kept or cleared
+     * @param site       The class that identifies the site where the throwable was caught, or
+     *                   <code>null</code> to identify it by the class of the throwable
+     * @param sampleRate The sample rate of the {@link #SAMPLED} policy
+     * @return Returns the given throwable.
+     */
+    /* package */ Throwable apply(Throwable throwable, Class<?> site, int sampleRate) {
+        if (throwable == null || throwable instanceof VirtualMachineError
+                || throwable instanceof LinkageError) {
+            // Leave the handling of fatal errors to Failure
+            return throwable;
+        }
+
+        final boolean keep;
+        switch (this) {
+            case NONE:
+                keep = false;
+                break;
+            case SAMPLED:
+                keep = ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+                break;
+            case FIRST_PER_SITE:
+                keep = SEEN.get(site == null ? throwable.getClass() : site)
+                        .compareAndSet(false, true);
+                break;
+            case FULL:
+            default:
+                keep = true;
+                break;
+        }
+        return keep ? throwable : clearStackTraces(throwable);
+    }
+
+    /**
+     * Clears the stack traces of the given throwable and of its causes, without reading them.
+     * Throwables whose stack trace is not writable are left as they are.
+     */
+    private static Throwable clearStackTraces(Throwable throwable) {
+        Throwable t = throwable;
+        for (int depth = 0; t != null && depth <= MAX_CAUSE_DEPTH; depth++) {
+            t.setStackTrace(EMPTY_STACK_TRACE);
+            final Throwable cause = t.getCause();
+            t = cause == t ? null : cause;
+        }
+        return throwable;
+    }
+
+    /**
+     * Applies the current policy to the given throwable.
+     */
+    /* package */ static Throwable capture(Throwable throwable, Class<?> site) {
+        return Config.MODE.apply(throwable, site, Config.SAMPLE_RATE);
+    }
+
+    /**
+     * Holder of the configuration, initialized once from the system properties.
+     */
+    /* package */ static final class Config {
+
+        /* package */ static final StackCapture MODE = mode();
+        /* package */ static final int SAMPLE_RATE = sampleRate();
+        /* package */ static final boolean ENABLED = MODE != FULL;
+
+        private Config() {
+        }
+
+        private static StackCapture mode() {
+            final String value = System.getProperty(PROPERTY_MODE);
+            if (value == null) {
+                return FULL;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                return FULL;
+            }
+        }
+
+        private static int sampleRate() {
+            final int rate = Integer.getInteger(PROPERTY_SAMPLE_RATE, DEFAULT_SAMPLE_RATE);
+            return rate > 0 ? rate : DEFAULT_SAMPLE_RATE;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Fixed-capacity buffer of the stages recorded by a thread: their name, their duration and
+ * whether they produced a {@link Success}.
+ * <p>
+ * The records are kept in preallocated parallel arrays, so recording a stage does not
+ * allocate. Instances of this class are owned by a single thread.
+ *
+ * @author 2bllw8
+ * @see StageSink
+ * @since 3.5.0
+ */
+public final class StageBuffer {
+
+    private final String[] names;
+    private final long[] durations;
+    private final boolean[] successes;
+    private int size;
+
+    /* package */ StageBuffer(int capacity) {
+        names = new String[capacity];
+        durations = new long[capacity];
+        successes = new boolean[capacity];
+    }
+
+    /**
+     * @return Returns the number of records in this buffer.
+     * @since 3.5.0
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Returns the name of the stage of the given record.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public String name(int index) {
+        checkIndex(index);
+        return names[index];
+    }
+
+    /**
+     * @return Returns the duration of the stage of the given record, in nanoseconds.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public long durationNanos(int index) {
+        checkIndex(index);
+        return durations[index];
+    }
+
+    /**
+     * @return Returns true if the stage of the given record produced a {@link Success}, false
+     * otherwise.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public boolean isSuccess(int index) {
+        checkIndex(index);
+        return successes[index];
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @return Returns true if the buffer is full after appending the record.
+     */
+    /* package */ boolean add(String name, long durationNanos, boolean success) {
+        names[size] = name;
+        durations[size] = durationNanos;
+        successes[size] = success;
+        return ++size == names.length;
+    }
+
+    /* package */ void clear() {
+        // Do not retain the names
+        for (int i = 0; i < size; i++) {
+            names[i] = null;
+        }
+        size = 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
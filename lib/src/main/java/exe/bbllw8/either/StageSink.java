@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Destination of the durations and outcomes of the stages recorded by {@link TimedTry}.
+ * <p>
+ * Sinks are registered as service providers of this interface and loaded through
+ * {@link java.util.ServiceLoader} when the library is first used.
+ * <p>
+ * Each thread records its stages in its own buffer, which is handed to the sinks when it is
+ * full or when {@link StageTimings#flush()} is invoked. The sinks are invoked synchronously by
+ * that thread, so their implementations must be thread-safe.
+ *
+ * @author 2bllw8
+ * @see StageTimings
+ * @since 3.5.0
+ */
+public interface StageSink {
+
+    /**
+     * Receives the stages recorded by the current thread since the last flush.
+     * <p>
+     * The buffer is cleared and reused once this method returns: the sink must copy the
+     * records it wants to keep.
+     *
+     * @param buffer The recorded stages
+     */
+    void accept(StageBuffer buffer);
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the {@link StageSink}s and of the buffers of the stages recorded by
+ * {@link TimedTry}.
+ * <p>
+ * The sinks are loaded through {@link ServiceLoader} when this class is initialized. If no
+ * sink is found, timing is disabled altogether and the stages of {@link TimedTry} reduce to
+ * the check of a constant that the JIT compiler removes, unless the
+ * <code>exe.bbllw8.either.timing</code> system property is set to <code>true</code>: then the
+ * stages are timed and the records are discarded when the buffer is full, which is meant to
+ * measure the overhead of timing.
+ * <p>
+ * The exceptions thrown by the sinks do not affect the stages nor the other sinks: they are
+ * reported to the uncaught exception handler of the current thread.
+ * <p>
+ * The capacity of the buffer of each thread is set with the
+ * <code>exe.bbllw8.either.timing.buffer</code> system property (256 records by default).
+ *
+ * @author 2bllw8
+ * @see TimedTry
+ * @since 3.5.0
+ */
+public final class StageTimings {
+
+    /**
+     * Name of the system property that enables timing regardless of the presence of sinks.
+     * Without sinks, the recorded stages are discarded.
+     *
+     * @since 3.5.0
+     */
+    public static final String PROPERTY_ENABLED = "exe.bbllw8.either.timing";
+
+    /**
+     * Name of the system property that sets the capacity of the buffer of each thread.
+     *
+     * @since 3.5.0
+     */
+    public static final String PROPERTY_BUFFER = "exe.bbllw8.either.timing.buffer";
+
+    private static final int DEFAULT_BUFFER = 256;
+
+    private static final StageSink[] SINKS = load();
+    private static final int BUFFER = bufferCapacity();
+    private static final ThreadLocal<StageBuffer> BUFFERS = ThreadLocal.withInitial(() ->
+            new StageBuffer(BUFFER));
+
+    /* package */ static final boolean ENABLED = SINKS.length > 0
+            || Boolean.getBoolean(PROPERTY_ENABLED);
+
+    private StageTimings() {
+    }
+
+    /**
+     * @return Returns true if the stages of {@link TimedTry} are timed, false otherwise.
+     * @since 3.5.0
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @return Returns the sinks loaded through {@link ServiceLoader}.
+     * @since 3.5.0
+     */
+    public static List<StageSink> sinks() {
+        final List<StageSink> list = new ArrayList<>(SINKS.length);
+        Collections.addAll(list, SINKS);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Hands the stages recorded by the current thread to the sinks, even if its buffer is not
+     * full. Does nothing if timing is disabled or no stage has been recorded.
+     *
+     * @since 3.5.0
+     */
+    public static void flush() {
+        if (ENABLED) {
+            final StageBuffer buffer = BUFFERS.get();
+            if (buffer.size() > 0) {
+                flush(buffer);
+            }
+        }
+    }
+
+    /* package */ static void record(String name, long startNanos, boolean success) {
+        final long duration = System.nanoTime() - startNanos;
+        final StageBuffer buffer = BUFFERS.get();
+        if (buffer.add(name, duration, success)) {
+            flush(buffer);
+        }
+    }
+
+    private static void flush(StageBuffer buffer) {
+        try {
+            for (final StageSink sink : SINKS) {
+                try {
+                    sink.accept(buffer);
+                } catch (RuntimeException e) {
+                    report(e);
+                }
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reports an exception thrown by a sink to the uncaught exception handler of the current
+     * thread, without propagating it to the timed stage.
+     */
+    private static void report(RuntimeException e) {
+        final Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    private static StageSink[] load() {
+        final List<StageSink> sinks = new ArrayList<>();
+        for (final StageSink sink : ServiceLoader.load(StageSink.class)) {
+            sinks.add(sink);
+        }
+        return sinks.toArray(new StageSink[0]);
+    }
+
+    private static int bufferCapacity() {
+        final int capacity = Integer.getInteger(PROPERTY_BUFFER, DEFAULT_BUFFER);
+        return capacity > 0 ? capacity : DEFAULT_BUFFER;
+    }
+}
@@ -7,8 +7,12 @@ package exe.bbllw8.either;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -20,6 +24,9 @@ import java.util.stream.Stream;
  */
 public final class Success<T> extends Try<T> {
 
+    private static final Success<?> NULL = new Success<>(null);
+    private static final Object[] CANONICAL = Canonical.instances(Success::new);
+
     private transient final T value;
 
     public Success(T value) {
@@ -58,7 +65,7 @@ public final class Success<T> extends Try<T> {
 
     @Override
     public <U> Try<U> map(CheckedFunction<T, U> function) {
-        return Try.from(() -> function.apply(value));
+        return Try.from(value, function);
     }
 
     @Override
@@ -85,12 +92,38 @@ public final class Success<T> extends Try<T> {
      */
     @Override
     public Optional<T> tOptional() {
-        return Optional.ofNullable(value);
+        return value == null
+                ? Optional.empty()
+                : Canonical.optional(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote If {@link #value} is null, the returned optional is {@link OptionalInt#empty()}.
+     */
+    @Override
+    public OptionalInt toOptionalInt(ToIntFunction<T> function) {
+        return value == null
+                ? OptionalInt.empty()
+                : OptionalInt.of(function.applyAsInt(value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote If {@link #value} is null, the returned optional is {@link OptionalLong#empty()}.
+     */
+    @Override
+    public OptionalLong toOptionalLong(ToLongFunction<T> function) {
+        return value == null
+                ? OptionalLong.empty()
+                : OptionalLong.of(function.applyAsLong(value));
     }
 
     @Override
     public Either<Throwable, T> toEither() {
-        return new Right<>(value);
+        return Right.of(value);
     }
 
     @Override
@@ -124,6 +157,22 @@ public final class Success<T> extends Try<T> {
         return Stream.of(value);
     }
 
+    /**
+     * @return Returns a {@link Success} holding the given value, which is a shared instance if
+     * the value is <code>null</code> or a common constant.
+     * @see Canonical
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static <T> Success<T> of(T value) {
+        if (value == null) {
+            return (Success<T>) NULL;
+        }
+        final int i = Canonical.indexOf(value);
+        return i < 0
+                ? new Success<>(value)
+                : (Success<T>) CANONICAL[i];
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Codec} of throwables that writes their class name, message, stack trace and cause
+ * chain compactly, to be used with {@link TryCodec} to transport {@link Failure} values.
+ * <p>
+ * Stack traces are truncated to a maximum number of frames and cause chains to a maximum
+ * number of causes. Suppressed exceptions are not written. Throwables are decoded as
+ * {@link LightweightThrowable}s holding the decoded stack traces and causes.
+ * <p>
+ * Strings and stack frames are interned across the values of a batch: the first occurrence is
+ * written in full and the following ones as a reference to it. As a consequence, the values
+ * of a batch must be decoded in the order they were encoded and by a single codec instance.
+ * Call {@link #reset()} on both the encoding and the decoding side to start a new batch. The
+ * encoding and decoding tables are separate, so a single instance may be used to encode one
+ * batch while decoding another.
+ * <p>
+ * The decoding side must be configured with limits at least as large as the encoding side.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author 2bllw8
+ * @see TryCodec#TryCodec(Codec, Codec)
+ * @since 3.5.0
+ */
+public final class ThrowableCodec implements Codec<Throwable> {
+
+    private static final int DEFAULT_MAX_FRAMES = 32;
+    private static final int DEFAULT_MAX_CAUSES = 8;
+    /**
+     * Maximum number of entries of each interning table. Once a table is full, the following
+     * entries are written in full.
+     */
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    // String references: NULL, NEW followed by the string, or STRING_ID + id
+    private static final int NULL = 0;
+    private static final int NEW = 1;
+    private static final int STRING_ID = 2;
+    // Frame references: NEW_FRAME followed by the frame, or FRAME_ID + id
+    private static final int NEW_FRAME = 0;
+    private static final int FRAME_ID = 1;
+
+    private final int maxFrames;
+    private final int maxCauses;
+
+    private final Map<String, Integer> encodedStrings = new HashMap<>();
+    private final Map<StackTraceElement, Integer> encodedFrames = new HashMap<>();
+    private final List<String> decodedStrings = new ArrayList<>();
+    private final List<StackTraceElement> decodedFrames = new ArrayList<>();
+
+    /**
+     * Constructs a codec that writes up to 32 stack frames per throwable and up to 8 causes.
+     *
+     * @since 3.5.0
+     */
+    public ThrowableCodec() {
+        this(DEFAULT_MAX_FRAMES, DEFAULT_MAX_CAUSES);
+    }
+
+    /**
+     * @param maxFrames The maximum number of stack frames written for each throwable
+     * @param maxCauses The maximum number of causes written for each throwable
+     * @throws IllegalArgumentException if a maximum is negative
+     * @since 3.5.0
+     */
+    public ThrowableCodec(int maxFrames, int maxCauses) {
+        if (maxFrames < 0 || maxCauses < 0) {
+            throw new IllegalArgumentException("Invalid maximum: " + maxFrames + ", "
+                    + maxCauses);
+        }
+        this.maxFrames = maxFrames;
+        this.maxCauses = maxCauses;
+    }
+
+    /**
+     * Clears the interning tables to start a new batch.
+     *
+     * @since 3.5.0
+     */
+    public void reset() {
+        encodedStrings.clear();
+        encodedFrames.clear();
+        decodedStrings.clear();
+        decodedFrames.clear();
+    }
+
+    @Override
+    public void encode(Throwable value, DataOutput out) throws IOException {
+        int causes = 0;
+        Throwable t = value;
+        while (true) {
+            writeString(out, t instanceof LightweightThrowable
+                    ? ((LightweightThrowable) t).getOriginalClassName()
+                    : t.getClass().getName());
+            writeString(out, t.getMessage());
+
+            final StackTraceElement[] stackTrace = t.getStackTrace();
+            final int frames = Math.min(stackTrace.length, maxFrames);
+            Codecs.writeVarInt(out, frames);
+            for (int i = 0; i < frames; i++) {
+                writeFrame(out, stackTrace[i]);
+            }
+
+            final Throwable cause = t.getCause();
+            final boolean hasCause = cause != null && cause != t && causes < maxCauses;
+            out.writeBoolean(hasCause);
+            if (!hasCause) {
+                return;
+            }
+            t = cause;
+            causes++;
+        }
+    }
+
+    @Override
+    public Throwable decode(DataInput in) throws IOException {
+        final List<String> classNames = new ArrayList<>();
+        final List<String> messages = new ArrayList<>();
+        final List<StackTraceElement[]> stackTraces = new ArrayList<>();
+        boolean hasCause = true;
+        while (hasCause) {
+            if (classNames.size() > maxCauses) {
+                throw new IOException("Too many causes");
+            }
+            final String className = readString(in);
+            if (className == null) {
+                throw new IOException("Missing class name");
+            }
+            classNames.add(className);
+            messages.add(readString(in));
+
+            final int frames = Codecs.readVarInt(in);
+            if (frames < 0 || frames > maxFrames) {
+                throw new IOException("Invalid number of frames: " + frames);
+            }
+            // The number of frames cannot be trusted: grow as the frames are read
+            final List<StackTraceElement> stackTrace = new ArrayList<>(
+                    Math.min(frames, Codecs.CHUNK_SIZE));
+            for (int i = 0; i < frames; i++) {
+                stackTrace.add(readFrame(in));
+            }
+            stackTraces.add(stackTrace.toArray(new StackTraceElement[0]));
+
+            hasCause = in.readBoolean();
+        }
+
+        // Build the chain starting from the innermost cause
+        LightweightThrowable t = null;
+        for (int i = classNames.size() - 1; i >= 0; i--) {
+            t = new LightweightThrowable(classNames.get(i), messages.get(i), t);
+            t.setStackTrace(stackTraces.get(i));
+        }
+        return t;
+    }
+
+    private void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            Codecs.writeVarInt(out, NULL);
+            return;
+        }
+        final Integer id = encodedStrings.get(value);
+        if (id == null) {
+            Codecs.writeVarInt(out, NEW);
+            Codecs.STRING.encode(value, out);
+            if (encodedStrings.size() < MAX_TABLE_SIZE) {
+                encodedStrings.put(value, encodedStrings.size());
+            }
+        } else {
+            Codecs.writeVarInt(out, STRING_ID + id);
+        }
+    }
+
+    private String readString(DataInput in) throws IOException {
+        final int ref = Codecs.readVarInt(in);
+        if (ref == NULL) {
+            return null;
+        } else if (ref == NEW) {
+            final String value = Codecs.STRING.decode(in);
+            if (decodedStrings.size() < MAX_TABLE_SIZE) {
+                decodedStrings.add(value);
+            }
+            return value;
+        } else if (ref >= STRING_ID && ref - STRING_ID < decodedStrings.size()) {
+            return decodedStrings.get(ref - STRING_ID);
+        } else {
+            throw new IOException("Invalid string reference: " + ref);
+        }
+    }
+
+    private void writeFrame(DataOutput out, StackTraceElement frame) throws IOException {
+        final Integer id = encodedFrames.get(frame);
+        if (id == null) {
+            Codecs.writeVarInt(out, NEW_FRAME);
+            writeString(out, frame.getClassName());
+            writeString(out, frame.getMethodName());
+            writeString(out, frame.getFileName());
+            // Negative line numbers have a meaning (-2 for native methods)
+            out.writeInt(frame.getLineNumber());
+            if (encodedFrames.size() < MAX_TABLE_SIZE) {
+                encodedFrames.put(frame, encodedFrames.size());
+            }
+        } else {
+            Codecs.writeVarInt(out, FRAME_ID + id);
+        }
+    }
+
+    private StackTraceElement readFrame(DataInput in) throws IOException {
+        final int ref = Codecs.readVarInt(in);
+        if (ref == NEW_FRAME) {
+            final String className = readString(in);
+            final String methodName = readString(in);
+            final String fileName = readString(in);
+            final int lineNumber = in.readInt();
+            if (className == null || methodName == null) {
+                throw new IOException("Malformed stack frame");
+            }
+            final StackTraceElement frame = new StackTraceElement(className, methodName,
+                    fileName, lineNumber);
+            if (decodedFrames.size() < MAX_TABLE_SIZE) {
+                decodedFrames.add(frame);
+            }
+            return frame;
+        } else if (ref >= FRAME_ID && ref - FRAME_ID < decodedFrames.size()) {
+            return decodedFrames.get(ref - FRAME_ID);
+        } else {
+            throw new IOException("Invalid frame reference: " + ref);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Chain of {@link Try} operations whose stages are named and, when {@link StageTimings} is
+ * enabled, timed:
+ * <pre>{@code
+ * Try<Integer> result = TimedTry.from("read", () -> read(path))
+ *         .map("parse", Integer::parseInt)
+ *         .flatMap("lookup", this::lookup)
+ *         .recover("default", t -> 0)
+ *         .get();
+ * }</pre>
+ * <p>
+ * For each stage that is executed, its name, its duration in nanoseconds and whether it
+ * produced a {@link Success} are recorded in a buffer of the current thread, which is handed to
+ * the {@link StageSink}s when it is full or flushed. Stages that are skipped (such as
+ * {@link #map(String, CheckedFunction)} of a {@link Failure}) are not recorded. When timing is
+ * disabled, the stages are plain {@link Try} operations.
+ * <p>
+ * To avoid an allocation per stage, a chain is mutable: each operation updates and returns the
+ * same instance, so a chain must not be shared nor branched.
+ *
+ * @param <T> Type of the current value of the chain
+ * @author 2bllw8
+ * @see StageTimings
+ * @since 3.5.0
+ */
+public final class TimedTry<T> {
+
+    private Try<?> current;
+
+    private TimedTry(Try<T> current) {
+        this.current = current;
+    }
+
+    /**
+     * @return Returns a chain that starts from the given {@link Try}.
+     * @since 3.5.0
+     */
+    public static <T> TimedTry<T> of(Try<T> t) {
+        return new TimedTry<>(Objects.requireNonNull(t));
+    }
+
+    /**
+     * @return Returns a chain that starts from the result of the given supplier, evaluated as a
+     * stage with the given name.
+     * @see Try#from(CheckedSupplier)
+     * @since 3.5.0
+     */
+    public static <T> TimedTry<T> from(String name, CheckedSupplier<T> supplier) {
+        if (!StageTimings.ENABLED) {
+            return new TimedTry<>(Try.from(supplier));
+        }
+        final long start = System.nanoTime();
+        final Try<T> t = Try.from(supplier);
+        StageTimings.record(name, start, t.isSuccess());
+        return new TimedTry<>(t);
+    }
+
+    /**
+     * Maps the value of the chain with a stage with the given name.
+     *
+     * @return Returns this chain.
+     * @see Try#map(CheckedFunction)
+     * @since 3.5.0
+     */
+    public <U> TimedTry<U> map(String name, CheckedFunction<T, U> function) {
+        final Try<T> t = value();
+        if (!StageTimings.ENABLED || t.isFailure()) {
+            return update(t.map(function));
+        }
+        final long start = System.nanoTime();
+        final Try<U> result = t.map(function);
+        StageTimings.record(name, start, result.isSuccess());
+        return update(result);
+    }
+
+    /**
+     * Binds the value of the chain with a stage with the given name.
+     *
+     * @return Returns this chain.
+     * @see Try#flatMap(Function)
+     * @since 3.5.0
+     */
+    public <U> TimedTry<U> flatMap(String name, Function<T, Try<U>> function) {
+        final Try<T> t = value();
+        if (!StageTimings.ENABLED || t.isFailure()) {
+            return update(t.flatMap(function));
+        }
+        final long start = System.nanoTime();
+        final Try<U> result = t.flatMap(function);
+        StageTimings.record(name, start, result.isSuccess());
+        return update(result);
+    }
+
+    /**
+     * Recovers from a failure of the chain with a stage with the given name.
+     *
+     * @return Returns this chain.
+     * @see Try#recover(Function)
+     * @since 3.5.0
+     */
+    public TimedTry<T> recover(String name, Function<Throwable, T> function) {
+        final Try<T> t = value();
+        if (!StageTimings.ENABLED || t.isSuccess()) {
+            return update(t.recover(function));
+        }
+        final long start = System.nanoTime();
+        final Try<T> result = t.recover(function);
+        StageTimings.record(name, start, result.isSuccess());
+        return update(result);
+    }
+
+    /**
+     * Recovers from a failure of the chain with a stage with the given name.
+     *
+     * @return Returns this chain.
+     * @see Try#recoverWith(Function)
+     * @since 3.5.0
+     */
+    public TimedTry<T> recoverWith(String name, Function<Throwable, Try<T>> function) {
+        final Try<T> t = value();
+        if (!StageTimings.ENABLED || t.isSuccess()) {
+            return update(t.recoverWith(function));
+        }
+        final long start = System.nanoTime();
+        final Try<T> result = t.recoverWith(function);
+        StageTimings.record(name, start, result.isSuccess());
+        return update(result);
+    }
+
+    /**
+     * @return Returns the result of the chain.
+     * @since 3.5.0
+     */
+    public Try<T> get() {
+        return value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Try<T> value() {
+        return (Try<T>) current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> TimedTry<U> update(Try<U> t) {
+        current = t;
+        return (TimedTry<U>) this;
+    }
+}
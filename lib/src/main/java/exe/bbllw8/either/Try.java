@@ -5,8 +5,12 @@
 package exe.bbllw8.either;
 
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -44,6 +48,9 @@ public abstract class Try<T> {
      *     <li>{@link Success}</li>
      *     <li>{@link Failure}</li>
      *     <li>{@link Try#from(CheckedSupplier)}</li>
+     *     <li>{@link Try#from(Object, CheckedFunction)}</li>
+     *     <li>{@link Try#success(Object)}</li>
+     *     <li>{@link Try#failure(Throwable)}</li>
      * </ul>
      *
      * @hidden
@@ -134,6 +141,26 @@ public abstract class Try<T> {
      */
     public abstract Optional<T> tOptional();
 
+    /**
+     * Unlike <code>tOptional().map(function)</code>, the result of the function is not boxed.
+     *
+     * @return Returns {@link OptionalInt#empty()} if this is a {@link Failure} or returns an
+     * optional containing the result of the application of the given function to the value if
+     * this is a {@link Success}.
+     * @since 3.5.0
+     */
+    public abstract OptionalInt toOptionalInt(ToIntFunction<T> function);
+
+    /**
+     * Unlike <code>tOptional().map(function)</code>, the result of the function is not boxed.
+     *
+     * @return Returns {@link OptionalLong#empty()} if this is a {@link Failure} or returns an
+     * optional containing the result of the application of the given function to the value if
+     * this is a {@link Success}.
+     * @since 3.5.0
+     */
+    public abstract OptionalLong toOptionalLong(ToLongFunction<T> function);
+
     /**
      * @return Returns {@link Left} with {@link Throwable} if this is a {@link Failure}, otherwise
      * returns {@link Right} with {@link Success} value.
@@ -212,15 +239,200 @@ public abstract class Try<T> {
     /**
      * Constructs a {@link Try} from the execution of a given supplier. This method will ensure any
      * non-fatal exception is caught and a {@link Failure} object is returned.
+     * <p>
+     * The {@link StackCapture} policy is applied to the caught exceptions.
      *
      * @since 3.0.0
      */
     @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
     public static <T> Try<T> from(CheckedSupplier<T> supplier) {
+        final Object event = Events.beginFrom();
+        final long start = OutcomeListeners.ENABLED ? System.nanoTime() : 0L;
+        final T value;
+        try {
+            value = supplier.get();
+        } catch (Throwable t) {
+            return failed(event, start, t, supplier.getClass());
+        }
+        return succeeded(event, start, value);
+    }
+
+    /**
+     * Constructs a {@link Try} from the application of a given function to the given argument.
+     * This method will ensure any non-fatal exception is caught and a {@link Failure} object is
+     * returned.
+     * <p>
+     * Unlike <code>Try.from(() -&gt; function.apply(argument))</code>, no lambda capturing the
+     * argument is allocated: a non-capturing lambda or method reference can be passed instead.
+     * The {@link StackCapture} policy is applied to the caught exceptions.
+     *
+     * @since 3.5.0
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    public static <T, R> Try<R> from(T argument, CheckedFunction<T, R> function) {
+        final Object event = Events.beginFrom();
+        final long start = OutcomeListeners.ENABLED ? System.nanoTime() : 0L;
+        final R value;
         try {
-            return new Success<>(supplier.get());
+            value = function.apply(argument);
         } catch (Throwable t) {
-            return new Failure<>(t);
+            return failed(event, start, t, function.getClass());
         }
+        return succeeded(event, start, value);
+    }
+
+    /**
+     * Constructs a {@link Try} from the application of a given function to the given arguments.
+     * This method will ensure any non-fatal exception is caught and a {@link Failure} object is
+     * returned.
+     *
+     * @see #from(Object, CheckedFunction)
+     * @since 3.5.0
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    public static <T, U, R> Try<R> from(T first, U second,
+                                        CheckedBiFunction<T, U, R> function) {
+        final Object event = Events.beginFrom();
+        final long start = OutcomeListeners.ENABLED ? System.nanoTime() : 0L;
+        final R value;
+        try {
+            value = function.apply(first, second);
+        } catch (Throwable t) {
+            return failed(event, start, t, function.getClass());
+        }
+        return succeeded(event, start, value);
+    }
+
+    /**
+     * Constructs a {@link Try} from the execution of a given operation. This method will ensure
+     * any non-fatal exception is caught and a {@link Failure} object is returned.
+     *
+     * @return Returns a {@link Success} holding <code>null</code> if the operation completes
+     * normally, or a {@link Failure} holding the exception it threw.
+     * @see #from(CheckedSupplier)
+     * @since 3.5.0
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    public static Try<Void> run(CheckedRunnable runnable) {
+        final Object event = Events.beginFrom();
+        final long start = OutcomeListeners.ENABLED ? System.nanoTime() : 0L;
+        try {
+            runnable.run();
+        } catch (Throwable t) {
+            return failed(event, start, t, runnable.getClass());
+        }
+        return succeeded(event, start, null);
+    }
+
+    /**
+     * Applies a function that cannot throw checked exceptions, with the same semantics as
+     * {@link #from(Object, CheckedFunction)}. Used by the combinators to catch inline.
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    /* package */ static <T, R> Try<R> apply(T argument, Function<T, R> function) {
+        final Object event = Events.beginFrom();
+        final long start = OutcomeListeners.ENABLED ? System.nanoTime() : 0L;
+        final R value;
+        try {
+            value = function.apply(argument);
+        } catch (Throwable t) {
+            return failed(event, start, t, function.getClass());
+        }
+        return succeeded(event, start, value);
+    }
+
+    /**
+     * Notifies the hooks of a successful computation. Called outside of the block that catches
+     * the exceptions of the computation, so that the hooks cannot turn it into a failure.
+     *
+     * @param event The token returned by {@link Events#beginFrom()}
+     * @param start The start time of the computation, if {@link OutcomeListeners#ENABLED}
+     */
+    /* package */ static <T> Try<T> succeeded(Object event, long start, T value) {
+        Events.endFrom(event, true);
+        if (OutcomeListeners.ENABLED) {
+            OutcomeListeners.tryFrom(true, start);
+        }
+        return Success.of(value);
+    }
+
+    private static <T> Try<T> failed(Object event, long start, Throwable throwable,
+                                     Class<?> site) {
+        return failed(event, start, StackCapture.Config.ENABLED
+                ? StackCapture.capture(throwable, site)
+                : throwable);
+    }
+
+    /**
+     * Notifies the hooks of a failed computation.
+     *
+     * @param event The token returned by {@link Events#beginFrom()}
+     * @param start The start time of the computation, if {@link OutcomeListeners#ENABLED}
+     */
+    /* package */ static <T> Try<T> failed(Object event, long start, Throwable throwable) {
+        Events.endFrom(event, false);
+        if (OutcomeListeners.ENABLED) {
+            OutcomeListeners.tryFrom(false, start);
+        }
+        return new Failure<>(throwable);
+    }
+
+    /**
+     * Filters the {@link Success} elements of the given stream and unwraps their values.
+     * <p>
+     * Unlike <code>flatMap(Try::stream)</code>, no stream is created per element. The returned
+     * stream is parallel if the given one is, and closing it closes the given stream.
+     *
+     * @return Returns a stream of the successful values of the given stream, in the same order.
+     * @see #failures(Stream)
+     * @since 3.5.0
+     */
+    public static <T> Stream<T> successes(Stream<Try<T>> stream) {
+        return UnwrappingSpliterator.stream(stream, UnwrappingSpliterator.SUCCESSES, false);
+    }
+
+    /**
+     * Filters the {@link Failure} elements of the given stream and unwraps their throwables.
+     * <p>
+     * Unlike <code>flatMap(t -&gt; t.failed().stream())</code>, no stream is created per
+     * element. The returned stream is parallel if the given one is, and closing it closes the
+     * given stream.
+     *
+     * @return Returns a stream of the throwables of the given stream, in the same order.
+     * @see #successes(Stream)
+     * @since 3.5.0
+     */
+    public static <T> Stream<Throwable> failures(Stream<Try<T>> stream) {
+        return UnwrappingSpliterator.stream(stream, UnwrappingSpliterator.FAILURES, true);
+    }
+
+    /**
+     * Returns a {@link Success} holding the given value.
+     * <p>
+     * Unlike the {@link Success} constructor, this method returns a shared instance when the
+     * value is <code>null</code> or a common constant: {@link Boolean#TRUE},
+     * {@link Boolean#FALSE}, an {@link Integer} between -128 and 127 or one of the empty
+     * collections of {@link java.util.Collections}.
+     *
+     * @return Returns a {@link Success} holding the given value.
+     * @since 3.5.0
+     */
+    public static <T> Try<T> success(T value) {
+        return Success.of(value);
+    }
+
+    /**
+     * Returns a {@link Failure} holding the given throwable.
+     * <p>
+     * Unlike the {@link Failure} constructor, this method applies the {@link StackCapture}
+     * policy to the throwable, which may clear its stack trace.
+     *
+     * @return Returns a {@link Failure} holding the given throwable.
+     * @since 3.5.0
+     */
+    public static <T> Try<T> failure(Throwable throwable) {
+        return new Failure<>(StackCapture.Config.ENABLED
+                ? StackCapture.capture(throwable, null)
+                : throwable);
     }
 }
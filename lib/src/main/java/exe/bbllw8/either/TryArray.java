@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * An immutable sequence of {@link Try} results, produced by applying a function to a batch of
+ * elements with {@link #map(Object[], CheckedFunction)} or {@link #map(List, CheckedFunction)}.
+ * <p>
+ * The function is applied to all the elements within a single <code>try</code> block, which is
+ * re-entered only after a failure. The successful values are stored in a plain array and the
+ * failures in a sparse index, so that no {@link Success} is allocated: when all the elements
+ * succeed, the only objects allocated per element are the results of the function.
+ * {@link Try} instances are created only on demand, through {@link #get(int)}.
+ * <p>
+ * As with {@link Try#from(CheckedSupplier)}, fatal errors are not caught and the
+ * {@link StackCapture} policy is applied to the caught exceptions. The hooks are notified of
+ * each failure once, when the function throws, and not when the result is read.
+ * <p>
+ * This class is not serializable.
+ *
+ * @param <R> Type of the successful values
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class TryArray<R> {
+
+    private transient final Object[] values;
+    private transient final FailureIndex failures;
+
+    private TryArray(Object[] values, FailureIndex failures) {
+        this.values = values;
+        this.failures = failures;
+    }
+
+    /**
+     * Applies the given function to each element of the given array.
+     *
+     * @return Returns the results, in the same order of the elements.
+     * @since 3.5.0
+     */
+    public static <T, R> TryArray<R> map(T[] elements, CheckedFunction<T, R> function) {
+        Objects.requireNonNull(function);
+        return apply(elements, function);
+    }
+
+    /**
+     * Applies the given function to each element of the given list.
+     *
+     * @return Returns the results, in the same order of the elements.
+     * @since 3.5.0
+     */
+    public static <T, R> TryArray<R> map(List<T> elements, CheckedFunction<T, R> function) {
+        Objects.requireNonNull(function);
+        return apply(elements.toArray(), function);
+    }
+
+    @SuppressWarnings({"unchecked", "PMD.AvoidCatchingThrowable"})
+    private static <T, R> TryArray<R> apply(Object[] elements, CheckedFunction<T, R> function) {
+        final int size = elements.length;
+        final Object[] values = new Object[size];
+        final FailureIndex failures = new FailureIndex();
+        int i = 0;
+        while (i < size) {
+            try {
+                for (; i < size; i++) {
+                    values[i] = function.apply((T) elements[i]);
+                }
+            } catch (Throwable t) {
+                Failure.assertNotFatal(t);
+                final Throwable throwable = StackCapture.Config.ENABLED
+                        ? StackCapture.capture(t, function.getClass())
+                        : t;
+                Failure.notifyHooks(throwable);
+                failures.add(i, throwable);
+                i++;
+            }
+        }
+        return new TryArray<>(values, failures);
+    }
+
+    /**
+     * @return Returns the number of results in this array.
+     * @since 3.5.0
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return Returns true if the result at the given index is a failure, false otherwise.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public boolean isFailure(int index) {
+        checkIndex(index);
+        return failures.contains(index);
+    }
+
+    /**
+     * @return Returns true if the result at the given index is a success, false otherwise.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    public boolean isSuccess(int index) {
+        return !isFailure(index);
+    }
+
+    /**
+     * @return Returns the number of failures in this array.
+     * @since 3.5.0
+     */
+    public int failureCount() {
+        return failures.size();
+    }
+
+    /**
+     * @return Returns the number of successes in this array.
+     * @since 3.5.0
+     */
+    public int successCount() {
+        return values.length - failures.size();
+    }
+
+    /**
+     * @return Returns the successful value at the given index.
+     * @throws IndexOutOfBoundsException     if the index is out of range
+     * @throws UnsupportedOperationException if the result at the given index is a failure
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public R getValue(int index) {
+        if (isFailure(index)) {
+            throw new UnsupportedOperationException("Failure.get");
+        }
+        return (R) values[index];
+    }
+
+    /**
+     * @return Returns the result at the given index as a new {@link Try} instance.
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public Try<R> get(int index) {
+        checkIndex(index);
+        final Throwable throwable = failures.get(index);
+        return throwable == null
+                ? Success.of((R) values[index])
+                : Failure.ofNotified(throwable);
+    }
+
+    /**
+     * Executes the given side-effecting function for each successful value.
+     *
+     * @since 3.5.0
+     */
+    public void forEach(Consumer<R> consumer) {
+        forEach(consumer, throwable -> {
+            // Do nothing
+        });
+    }
+
+    /**
+     * Applies successConsumer to each successful value and failureConsumer to each failure, in
+     * the same order of this array.
+     *
+     * @since 3.5.0
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<R> successConsumer, Consumer<Throwable> failureConsumer) {
+        int nextFailure = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (nextFailure < failures.size() && failures.indexAt(nextFailure) == i) {
+                failureConsumer.accept(failures.throwableAt(nextFailure++));
+            } else {
+                successConsumer.accept((R) values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return Returns the successful values of this array, in order.
+     * @since 3.5.0
+     */
+    public List<R> successes() {
+        final List<R> successes = new ArrayList<>(successCount());
+        forEach(successes::add);
+        return Collections.unmodifiableList(successes);
+    }
+
+    /**
+     * @return Returns the throwables of the failures of this array, in order.
+     * @since 3.5.0
+     */
+    public List<Throwable> failures() {
+        final List<Throwable> throwables = new ArrayList<>(failures.size());
+        for (int i = 0; i < failures.size(); i++) {
+            throwables.add(failures.throwableAt(i));
+        }
+        return Collections.unmodifiableList(throwables);
+    }
+
+    /**
+     * @return Returns a stream of the results of this array as new {@link Try} instances.
+     * @since 3.5.0
+     */
+    public Stream<Try<R>> stream() {
+        return IntStream.range(0, values.length).mapToObj(this::get);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TryArray)) {
+            return false;
+        }
+        final TryArray<?> that = (TryArray<?>) o;
+        if (values.length != that.values.length || failures.size() != that.failures.size()) {
+            return false;
+        }
+        for (int i = 0; i < failures.size(); i++) {
+            if (failures.indexAt(i) != that.failures.indexAt(i)
+                    || !Objects.equals(failures.throwableAt(i), that.failures.throwableAt(i))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (!Objects.equals(values[i], that.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(TryArray.class, values.length);
+        for (int i = 0; i < failures.size(); i++) {
+            hash = 31 * hash + failures.indexAt(i);
+            hash = 31 * hash + Objects.hashCode(failures.throwableAt(i));
+        }
+        for (final Object value : values) {
+            hash = 31 * hash + Objects.hashCode(value);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("TryArray(");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            final Throwable throwable = failures.get(i);
+            if (throwable == null) {
+                sb.append("Success(").append(values[i]).append(')');
+            } else {
+                sb.append("Failure(").append(throwable).append(')');
+            }
+        }
+        return sb.append(')').toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= values.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+        }
+    }
+}
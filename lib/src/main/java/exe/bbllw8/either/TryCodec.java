@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * {@link Codec} of {@link Try} values.
+ * <p>
+ * Each value is written as a one-byte tag followed by either the value of the {@link Success},
+ * written by the value codec, or the throwable of the {@link Failure}, written by the
+ * throwable codec. A {@link Success} holding <code>null</code> is written as a tag only, so
+ * the value codec never sees <code>null</code>.
+ * <p>
+ * Unless another one is given, throwables are written as their class name and message and are
+ * decoded as {@link LightweightThrowable}s: stack traces and causes are not written. Use a
+ * {@link ThrowableCodec} to write them too.
+ *
+ * @param <T> Type of the successful values
+ * @author 2bllw8
+ * @see ThrowableCodec
+ * @since 3.5.0
+ */
+public final class TryCodec<T> implements Codec<Try<T>> {
+
+    private static final byte TAG_SUCCESS = 0;
+    private static final byte TAG_FAILURE = 1;
+    private static final byte TAG_SUCCESS_NULL = 2;
+
+    private static final Codec<Throwable> SUMMARY = new Codec<Throwable>() {
+        @Override
+        public void encode(Throwable value, DataOutput out) throws IOException {
+            final String className = value instanceof LightweightThrowable
+                    ? ((LightweightThrowable) value).getOriginalClassName()
+                    : value.getClass().getName();
+            final String message = value.getMessage();
+            Codecs.STRING.encode(className, out);
+            out.writeBoolean(message != null);
+            if (message != null) {
+                Codecs.STRING.encode(message, out);
+            }
+        }
+
+        @Override
+        public Throwable decode(DataInput in) throws IOException {
+            final String className = Codecs.STRING.decode(in);
+            final String message = in.readBoolean() ? Codecs.STRING.decode(in) : null;
+            return new LightweightThrowable(className, message, null);
+        }
+    };
+
+    private final Codec<T> valueCodec;
+    private final Codec<Throwable> throwableCodec;
+
+    /**
+     * Constructs a codec that writes the class name and message of the throwables of the
+     * {@link Failure} values.
+     *
+     * @param valueCodec The codec of the successful values
+     * @since 3.5.0
+     */
+    public TryCodec(Codec<T> valueCodec) {
+        this(valueCodec, SUMMARY);
+    }
+
+    /**
+     * @param valueCodec     The codec of the successful values
+     * @param throwableCodec The codec of the throwables of the {@link Failure} values
+     * @since 3.5.0
+     */
+    public TryCodec(Codec<T> valueCodec, Codec<Throwable> throwableCodec) {
+        this.valueCodec = Objects.requireNonNull(valueCodec);
+        this.throwableCodec = Objects.requireNonNull(throwableCodec);
+    }
+
+    @Override
+    public void encode(Try<T> value, DataOutput out) throws IOException {
+        if (value instanceof Failure<?>) {
+            out.writeByte(TAG_FAILURE);
+            throwableCodec.encode(((Failure<T>) value).throwable(), out);
+        } else {
+            final T t = value.get();
+            if (t == null) {
+                out.writeByte(TAG_SUCCESS_NULL);
+            } else {
+                out.writeByte(TAG_SUCCESS);
+                valueCodec.encode(t, out);
+            }
+        }
+    }
+
+    @Override
+    public Try<T> decode(DataInput in) throws IOException {
+        final byte tag = in.readByte();
+        switch (tag) {
+            case TAG_SUCCESS:
+                return Success.of(valueCodec.decode(in));
+            case TAG_FAILURE:
+                return new Failure<>(throwableCodec.decode(in));
+            case TAG_SUCCESS_NULL:
+                return Success.of(null);
+            default:
+                throw new IOException("Invalid Try tag: " + tag);
+        }
+    }
+}
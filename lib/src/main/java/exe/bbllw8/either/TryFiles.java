@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utility methods that read files lazily, producing one {@link Try} per element read.
+ * <p>
+ * Unlike reading a whole file within a single {@link Try#from(CheckedSupplier)}, the streams
+ * returned by these methods hold at most one element in memory at a time and an error in one
+ * element does not fail the others.
+ * <p>
+ * The returned streams hold an open file handle: they should be used within a
+ * try-with-resources statement so that the file is closed once the stream is consumed.
+ * <p>
+ * Records of binary files can be read through memory mapped windows of the file with
+ * {@link #fixedRecords(Path, int, CheckedFunction)} and
+ * {@link #delimitedRecords(Path, byte, CheckedFunction)}: the records are not copied and the
+ * returned streams can be made {@link Stream#parallel() parallel} to parse the file in chunks
+ * across multiple threads.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+public final class TryFiles {
+
+    private TryFiles() {
+    }
+
+    /**
+     * Lazily reads the lines of a file decoded as UTF-8 and applies the given parser to each of
+     * them.
+     *
+     * @see #lines(Path, Charset, CheckedFunction)
+     * @since 3.5.0
+     */
+    public static <T> Stream<Try<T>> lines(Path path, CheckedFunction<String, T> parser) {
+        return lines(path, StandardCharsets.UTF_8, parser);
+    }
+
+    /**
+     * Lazily reads the lines of a file and applies the given parser to each of them.
+     * <p>
+     * Each line yields a {@link Success} holding the parsed value or a {@link Failure} holding
+     * the exception thrown by the parser. If the file cannot be opened, the stream contains a
+     * single {@link Failure}. If an I/O error occurs while reading, the stream ends with a
+     * {@link Failure} holding the {@link IOException}.
+     *
+     * @param path    The path of the file to be read
+     * @param charset The charset used to decode the file
+     * @param parser  The function applied to each line
+     * @return Returns a lazily populated stream of the parsed lines. Closing the stream closes
+     * the underlying file.
+     * @since 3.5.0
+     */
+    public static <T> Stream<Try<T>> lines(Path path, Charset charset,
+                                          CheckedFunction<String, T> parser) {
+        Objects.requireNonNull(parser);
+        final BufferedReader reader;
+        try {
+            reader = Files.newBufferedReader(path, charset);
+        } catch (IOException e) {
+            return Stream.of(new Failure<>(e));
+        }
+        return lines(reader, parser);
+    }
+
+    /**
+     * Lazily reads the lines of the given reader and applies the given parser to each of them.
+     * <p>
+     * Each line yields a {@link Success} holding the parsed value or a {@link Failure} holding
+     * the exception thrown by the parser. If an I/O error occurs while reading, the stream ends
+     * with a {@link Failure} holding the {@link IOException}.
+     *
+     * @param reader The reader to read the lines from
+     * @param parser The function applied to each line
+     * @return Returns a lazily populated stream of the parsed lines. Closing the stream closes
+     * the given reader.
+     * @since 3.5.0
+     */
+    public static <T> Stream<Try<T>> lines(BufferedReader reader,
+                                          CheckedFunction<String, T> parser) {
+        Objects.requireNonNull(parser);
+        return StreamSupport.stream(new LineSpliterator<>(reader, parser), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    /**
+     * Lazily reads a file made of records of a fixed number of bytes and applies the given
+     * parser to each of them.
+     * <p>
+     * The file is accessed through memory mapped windows, so files larger than 2GB are
+     * supported. Each record is passed to the parser as a read-only {@link ByteBuffer} of
+     * <code>recordSize</code> bytes that views the mapped region of the file without copying
+     * it. Each record yields a {@link Success} holding the parsed value or a {@link Failure}
+     * holding the exception thrown by the parser. If the size of the file is not a multiple of
+     * <code>recordSize</code>, the last element is a {@link Failure}.
+     * <p>
+     * The returned stream is sequential, but it can be turned into a parallel stream to parse
+     * chunks of the file in parallel.
+     *
+     * @param path       The path of the file to be read
+     * @param recordSize The size of each record in bytes
+     * @param parser     The function applied to each record
+     * @return Returns a lazily populated stream of the parsed records. Closing the stream closes
+     * the underlying file.
+     * @throws IllegalArgumentException if the record size is not positive
+     * @since 3.5.0
+     */
+    public static <T> Stream<Try<T>> fixedRecords(Path path, int recordSize,
+                                                 CheckedFunction<ByteBuffer, T> parser) {
+        return fixedRecords(path, recordSize, parser,
+                MappedRecordSpliterator.DEFAULT_WINDOW_SIZE);
+    }
+
+    /* package */ static <T> Stream<Try<T>> fixedRecords(Path path, int recordSize,
+                                                        CheckedFunction<ByteBuffer, T> parser,
+                                                        int windowSize) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("Invalid record size: " + recordSize);
+        }
+        Objects.requireNonNull(parser);
+        final FileChannel channel;
+        final long size;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            size = size(channel);
+        } catch (IOException e) {
+            return Stream.of(new Failure<>(e));
+        }
+        return records(channel, MappedRecordSpliterator.fixed(channel, size, windowSize,
+                recordSize, parser));
+    }
+
+    /**
+     * Lazily reads a file made of records separated by the given delimiter and applies the
+     * given parser to each of them.
+     * <p>
+     * The file is accessed through memory mapped windows, so files larger than 2GB are
+     * supported. Each record is passed to the parser as a read-only {@link ByteBuffer} that
+     * views the mapped region of the file without copying it and does not include the
+     * delimiter. Each record yields a {@link Success} holding the parsed value or a
+     * {@link Failure} holding the exception thrown by the parser.
+     * <p>
+     * The returned stream is sequential, but it can be turned into a parallel stream to parse
+     * chunks of the file in parallel.
+     *
+     * @param path      The path of the file to be read
+     * @param delimiter The byte that separates the records
+     * @param parser    The function applied to each record
+     * @return Returns a lazily populated stream of the parsed records. Closing the stream closes
+     * the underlying file.
+     * @since 3.5.0
+     */
+    public static <T> Stream<Try<T>> delimitedRecords(Path path, byte delimiter,
+                                                     CheckedFunction<ByteBuffer, T> parser) {
+        return delimitedRecords(path, delimiter, parser,
+                MappedRecordSpliterator.DEFAULT_WINDOW_SIZE);
+    }
+
+    /* package */ static <T> Stream<Try<T>> delimitedRecords(Path path, byte delimiter,
+                                                            CheckedFunction<ByteBuffer, T> parser,
+                                                            int windowSize) {
+        Objects.requireNonNull(parser);
+        final FileChannel channel;
+        final long size;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            size = size(channel);
+        } catch (IOException e) {
+            return Stream.of(new Failure<>(e));
+        }
+        return records(channel, MappedRecordSpliterator.delimited(channel, size, windowSize,
+                delimiter, parser));
+    }
+
+    private static long size(FileChannel channel) throws IOException {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static <T> Stream<Try<T>> records(FileChannel channel,
+                                              MappedRecordSpliterator<T> spliterator) {
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static final class LineSpliterator<T> implements Spliterator<Try<T>> {
+
+        private final BufferedReader reader;
+        private final CheckedFunction<String, T> parser;
+        private boolean done;
+
+        private LineSpliterator(BufferedReader reader, CheckedFunction<String, T> parser) {
+            this.reader = Objects.requireNonNull(reader);
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Try<T>> action) {
+            if (done) {
+                return false;
+            }
+
+            final String line;
+            try {
+                line = reader.readLine();
+            } catch (IOException e) {
+                done = true;
+                action.accept(new Failure<>(e));
+                return true;
+            }
+
+            if (line == null) {
+                done = true;
+                return false;
+            } else {
+                action.accept(Try.from(line, parser));
+                return true;
+            }
+        }
+
+        @Override
+        public Spliterator<Try<T>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Scope in which {@link Try} values are unwrapped imperatively, as an alternative to nested
+ * {@link Try#flatMap(java.util.function.Function)} invocations.
+ * <p>
+ * Within the body of {@link #of(CheckedFunction)}, {@link #bind(Try)} returns the value of a
+ * {@link Success}. When it is given a {@link Failure}, the rest of the body is skipped and the
+ * failure is the result of the scope:
+ * <pre>{@code
+ * Try<Integer> sum = TryScope.of(scope -> {
+ *     int a = scope.bind(Try.from("12", Integer::parseInt));
+ *     int b = scope.bind(Try.from("30", Integer::parseInt));
+ *     return a + b;
+ * });
+ * }</pre>
+ * <p>
+ * The body is left through an exception that is preallocated and does not capture a stack
+ * trace: the body must not catch {@link RuntimeException} (or {@link Throwable}) around the
+ * invocations of {@link #bind(Try)} without rethrowing it. A scope must not be used after its
+ * body has completed.
+ *
+ * @author 2bllw8
+ * @see EitherScope
+ * @since 3.5.0
+ */
+public final class TryScope {
+
+    private Try<?> failure;
+    private boolean closed;
+
+    private TryScope() {
+    }
+
+    /**
+     * Runs the given body in a new scope. As with {@link Try#from(CheckedSupplier)}, non-fatal
+     * exceptions thrown by the body are caught and a {@link Failure} is returned.
+     *
+     * @return Returns a {@link Success} holding the result of the body, the first
+     * {@link Failure} given to {@link #bind(Try)} or a {@link Failure} holding the exception
+     * thrown by the body.
+     * @since 3.5.0
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable"})
+    public static <R> Try<R> of(CheckedFunction<TryScope, R> body) {
+        final TryScope scope = new TryScope();
+        try {
+            return Success.of(body.apply(scope));
+        } catch (ScopeEscape e) {
+            if (scope.failure == null) {
+                // Escape from an enclosing scope
+                throw e;
+            }
+            return ((Failure<?>) scope.failure).withType();
+        } catch (Throwable t) {
+            return Try.failure(t);
+        } finally {
+            scope.closed = true;
+        }
+    }
+
+    /**
+     * @return Returns the value of the given {@link Success}, or leaves the body of this scope
+     * with the given {@link Failure} as its result.
+     * @throws IllegalStateException if the body of this scope has completed
+     * @since 3.5.0
+     */
+    public <T> T bind(Try<T> t) {
+        if (closed) {
+            throw new IllegalStateException("The scope is closed");
+        }
+        if (t.isSuccess()) {
+            return t.get();
+        }
+        failure = t;
+        throw ScopeEscape.INSTANCE;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator that filters the elements of a source spliterator of {@link Either} or
+ * {@link Try} values and unwraps the value held by the matching ones.
+ * <p>
+ * Unlike <code>flatMap(Either::stream)</code>, no stream is created per element. Splitting is
+ * delegated to the source spliterator, so the returned streams parallelize as well as their
+ * source.
+ *
+ * @param <S> Type of the elements of the source
+ * @param <T> Type of the unwrapped values
+ * @author 2bllw8
+ * @see Either#lefts(Stream)
+ * @see Either#rights(Stream)
+ * @see Try#successes(Stream)
+ * @see Try#failures(Stream)
+ * @since 3.5.0
+ */
+/* package */ final class UnwrappingSpliterator<S, T> implements Spliterator<T>, Consumer<S> {
+
+    /* package */ static final Unwrapper<Either<?, ?>, Object> LEFTS = (element, action) -> {
+        if (element instanceof Left<?, ?>) {
+            action.accept(((Left<?, ?>) element).value());
+            return true;
+        }
+        return false;
+    };
+
+    /* package */ static final Unwrapper<Either<?, ?>, Object> RIGHTS = (element, action) -> {
+        if (element instanceof Right<?, ?>) {
+            action.accept(((Right<?, ?>) element).value());
+            return true;
+        }
+        return false;
+    };
+
+    /* package */ static final Unwrapper<Try<?>, Object> SUCCESSES = (element, action) -> {
+        if (element instanceof Success<?>) {
+            action.accept(element.get());
+            return true;
+        }
+        return false;
+    };
+
+    /* package */ static final Unwrapper<Try<?>, Throwable> FAILURES = (element, action) -> {
+        if (element instanceof Failure<?>) {
+            action.accept(((Failure<?>) element).throwable());
+            return true;
+        }
+        return false;
+    };
+
+    /**
+     * Characteristics of the source that still hold for the unwrapped values.
+     */
+    private static final int KEPT_CHARACTERISTICS = ORDERED | IMMUTABLE | CONCURRENT;
+
+    private final Spliterator<S> source;
+    private final Unwrapper<? super S, T> unwrapper;
+    private final int characteristics;
+
+    /**
+     * Action of the ongoing {@link #tryAdvance(Consumer)} call: storing it in a field allows
+     * this instance to be used as the consumer of the source without allocating one per call.
+     */
+    private Consumer<? super T> action;
+    private boolean matched;
+
+    private UnwrappingSpliterator(Spliterator<S> source, Unwrapper<? super S, T> unwrapper,
+                                  boolean nonNull) {
+        this.source = source;
+        this.unwrapper = unwrapper;
+        this.characteristics = (source.characteristics() & KEPT_CHARACTERISTICS)
+                | (nonNull ? NONNULL : 0);
+    }
+
+    /**
+     * Returns a stream of the values of the elements of the given stream that are matched by
+     * the given unwrapper. The returned stream is parallel if the given one is and closing it
+     * closes the given stream.
+     *
+     * @param nonNull Whether the unwrapped values are never <code>null</code>
+     */
+    @SuppressWarnings("unchecked")
+    /* package */ static <S, T> Stream<T> stream(Stream<S> stream,
+                                                Unwrapper<? super S, ?> unwrapper,
+                                                boolean nonNull) {
+        final Spliterator<T> spliterator = new UnwrappingSpliterator<>(stream.spliterator(),
+                (Unwrapper<? super S, T>) unwrapper, nonNull);
+        return StreamSupport.stream(spliterator, stream.isParallel())
+                .onClose(stream::close);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        this.action = action;
+        matched = false;
+        try {
+            while (!matched && source.tryAdvance(this)) {
+                // Skip the elements that do not match
+            }
+            return matched;
+        } finally {
+            this.action = null;
+        }
+    }
+
+    /**
+     * Consumes an element of the source during {@link #tryAdvance(Consumer)}.
+     */
+    @Override
+    public void accept(S element) {
+        matched = unwrapper.unwrap(element, action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        source.forEachRemaining(element -> unwrapper.unwrap(element, action));
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final Spliterator<S> prefix = source.trySplit();
+        return prefix == null
+                ? null
+                : new UnwrappingSpliterator<>(prefix, unwrapper,
+                (characteristics & NONNULL) != 0);
+    }
+
+    @Override
+    public long estimateSize() {
+        // Upper bound: some elements may not match
+        return source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    /**
+     * Passes the value of an element to an action if the element matches.
+     *
+     * @param <S> Type of the elements
+     * @param <T> Type of the values
+     */
+    @FunctionalInterface
+    /* package */ interface Unwrapper<S, T> {
+
+        /**
+         * @return Returns true if the element matched and its value was passed to the action.
+         */
+        boolean unwrap(S element, Consumer<? super T> action);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+/**
+ * Hooks that emit Java Flight Recorder events.
+ * <p>
+ * Each hook checks whether its event is enabled before doing any work: when no recording is
+ * active, the event instances do not escape and the hooks compile down to a single check.
+ * <p>
+ * The hooks do nothing if the <code>jdk.jfr</code> module is not part of the runtime (for
+ * example, in an image built with jlink without it): the event classes are only loaded through
+ * {@link Recorder} once the module has been found.
+ *
+ * @author 2bllw8
+ * @see TryFromEvent
+ * @see FailureEvent
+ * @see RecoveryEvent
+ * @since 3.5.0
+ */
+/* package */ final class Events {
+
+    /**
+     * Whether the <code>jdk.jfr</code> module is available.
+     */
+    /* package */ static final boolean AVAILABLE = ModuleLayer.boot()
+            .findModule("jdk.jfr")
+            .isPresent();
+
+    private Events() {
+    }
+
+    /**
+     * Called before the supplier of {@link Try#from(CheckedSupplier)} is invoked.
+     *
+     * @return Returns a token to be passed to {@link #endFrom(Object, boolean)}.
+     */
+    /* package */ static Object beginFrom() {
+        return AVAILABLE
+                ? Recorder.beginFrom()
+                : null;
+    }
+
+    /**
+     * Called after the supplier of {@link Try#from(CheckedSupplier)} has been invoked.
+     */
+    /* package */ static void endFrom(Object token, boolean success) {
+        if (token != null) {
+            Recorder.endFrom(token, success);
+        }
+    }
+
+    /**
+     * Called when a new {@link Failure} is created.
+     */
+    /* package */ static void failure(Throwable throwable) {
+        if (AVAILABLE) {
+            Recorder.failure(throwable);
+        }
+    }
+
+    /**
+     * Called before the recovery function of a {@link Failure} is invoked.
+     *
+     * @return Returns a token to be passed to
+     * {@link #endRecovery(Object, String, Throwable, boolean)}.
+     */
+    /* package */ static Object beginRecovery() {
+        return AVAILABLE
+                ? Recorder.beginRecovery()
+                : null;
+    }
+
+    /**
+     * Called after the recovery function of a {@link Failure} has been invoked.
+     */
+    /* package */ static void endRecovery(Object token, String operation, Throwable throwable,
+                                          boolean success) {
+        if (token != null) {
+            Recorder.endRecovery(token, operation, throwable, success);
+        }
+    }
+
+    /**
+     * Emits the events. Only loaded if the <code>jdk.jfr</code> module is available.
+     */
+    private static final class Recorder {
+
+        private Recorder() {
+        }
+
+        private static Object beginFrom() {
+            final TryFromEvent event = new TryFromEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        private static void endFrom(Object token, boolean success) {
+            final TryFromEvent event = (TryFromEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.success = success;
+                event.commit();
+            }
+        }
+
+        private static void failure(Throwable throwable) {
+            final FailureEvent event = new FailureEvent();
+            if (event.isEnabled() && throwable != null) {
+                event.throwableClass = throwable.getClass();
+                event.message = throwable.getMessage();
+                event.commit();
+            }
+        }
+
+        private static Object beginRecovery() {
+            final RecoveryEvent event = new RecoveryEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        private static void endRecovery(Object token, String operation, Throwable throwable,
+                                        boolean success) {
+            final RecoveryEvent event = (RecoveryEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.throwableClass = throwable == null ? null : throwable.getClass();
+                event.success = success;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for the creation of a {@link Failure}.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+@Name("exe.bbllw8.either.Failure")
+@Label("Failure")
+@Category("Either")
+@Description("Creation of a Failure")
+/* package */ final class FailureEvent extends Event {
+
+    @Label("Throwable Class")
+    /* package */ Class<?> throwableClass;
+
+    @Label("Message")
+    /* package */ String message;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for the execution of the function of
+ * {@link Try#recover(java.util.function.Function)} or
+ * {@link Try#recoverWith(java.util.function.Function)} on a {@link Failure}.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+@Name("exe.bbllw8.either.Recovery")
+@Label("Recovery")
+@Category("Either")
+@Description("Recovery of a Failure")
+/* package */ final class RecoveryEvent extends Event {
+
+    @Label("Operation")
+    /* package */ String operation;
+
+    @Label("Throwable Class")
+    @Description("Class of the throwable of the recovered failure")
+    /* package */ Class<?> throwableClass;
+
+    @Label("Success")
+    @Description("Whether the recovery resulted in a Success")
+    /* package */ boolean success;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for the execution of {@link Try#from(CheckedSupplier)}.
+ * <p>
+ * Only executions that take longer than the threshold (1ms by default) are recorded.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+@Name("exe.bbllw8.either.TryFrom")
+@Label("Try.from")
+@Category("Either")
+@Description("Execution of the supplier of Try.from")
+@StackTrace(false)
+@Threshold("1 ms")
+/* package */ final class TryFromEvent extends Event {
+
+    @Label("Success")
+    @Description("Whether the supplier returned a value")
+    /* package */ boolean success;
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Default executor of the attempts of {@link Hedge}: each attempt runs on a new virtual
+ * thread, so blocked attempts do not hold a platform thread.
+ *
+ * @author 2bllw8
+ * @since 3.5.0
+ */
+/* package */ final class HedgeThreads {
+
+    /* package */ static final Executor EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("either-hedge-", 0L).factory());
+
+    private HedgeThreads() {
+    }
+}
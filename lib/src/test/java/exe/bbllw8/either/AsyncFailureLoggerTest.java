@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncFailureLoggerTest {
+
+    @Test
+    public void writesFailuresAndLefts() throws IOException {
+        final Path file = Files.createTempFile("failures", ".log");
+        try {
+            final AsyncFailureLogger logger = AsyncFailureLogger.open(file);
+            Assert.assertTrue("A failure should be accepted",
+                    logger.offer(new Failure<>(new IOException("disk full"))));
+            Assert.assertTrue("A left should be accepted",
+                    logger.offer(new Left<>("not found")));
+            Assert.assertTrue("A success should be ignored", logger.offer(new Success<>(1)));
+            Assert.assertTrue("A right should be ignored", logger.offer(new Right<>(1)));
+            logger.close();
+
+            final String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Assert.assertTrue("The failure should be written",
+                    text.contains(" Failure: java.io.IOException: disk full"));
+            Assert.assertTrue("The stack trace should be written",
+                    text.contains("\tat exe.bbllw8.either.AsyncFailureLoggerTest"));
+            Assert.assertTrue("The left should be written", text.contains(" Left: not found"));
+            Assert.assertEquals("Both values should be counted as written", 2L, logger.written());
+            Assert.assertEquals("No value should be dropped", 0L, logger.dropped());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void unformattableValue() throws IOException {
+        final Path file = Files.createTempFile("failures", ".log");
+        try {
+            final AsyncFailureLogger logger = AsyncFailureLogger.open(file);
+            logger.offer(new Left<>(new Unformattable()));
+            logger.offer(new Left<>("not found"));
+            logger.close();
+
+            final String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Assert.assertTrue("A placeholder should be written",
+                    text.contains(" Left: <unformattable " + Unformattable.class.getName() + ">"));
+            Assert.assertTrue("The following values should be written",
+                    text.contains(" Left: not found"));
+            Assert.assertEquals("The formatted value should be counted as written",
+                    1L,
+                    logger.written());
+            Assert.assertEquals("The unformattable value should be counted as an error",
+                    1L,
+                    logger.writeErrors());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void overflowingValue() throws IOException {
+        final Path file = Files.createTempFile("failures", ".log");
+        try {
+            final AsyncFailureLogger logger = AsyncFailureLogger.open(file);
+            logger.offer(new Left<>(new Overflowing()));
+            logger.offer(new Left<>("not found"));
+            logger.close();
+
+            final String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            Assert.assertTrue("A placeholder should be written",
+                    text.contains(" Left: <unformattable " + Overflowing.class.getName() + ">"));
+            Assert.assertTrue("The following values should be written",
+                    text.contains(" Left: not found"));
+            Assert.assertEquals("The overflowing value should be counted as an error",
+                    1L,
+                    logger.writeErrors());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void wakesWhenIdle() throws IOException, InterruptedException {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final AsyncFailureLogger logger = new AsyncFailureLogger(
+                new BlockingChannel(writing, new CountDownLatch(0)));
+        // Let the consumer park
+        Thread.sleep(50L);
+        logger.offer(new Left<>("late"));
+        Assert.assertTrue("The consumer should be woken up by the value",
+                writing.await(10L, TimeUnit.SECONDS));
+        logger.close();
+        Assert.assertEquals("The value should be written", 1L, logger.written());
+    }
+
+    @Test
+    public void dropsWhenFull() throws IOException, InterruptedException {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final BlockingChannel channel = new BlockingChannel(writing, release);
+        final AsyncFailureLogger logger = new AsyncFailureLogger(channel, 4);
+        logger.offer(new Left<>("first"));
+        Assert.assertTrue("The consumer should start writing",
+                writing.await(10L, TimeUnit.SECONDS));
+        // The consumer is blocked: the buffer can hold 4 more values
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue("The value should be accepted", logger.offer(new Left<>(i)));
+        }
+        Assert.assertFalse("The value should be dropped", logger.offer(new Left<>("dropped")));
+        Assert.assertEquals("The dropped value should be counted", 1L, logger.dropped());
+        release.countDown();
+        logger.close();
+        Assert.assertEquals("The other values should be written", 5L, logger.written());
+        Assert.assertFalse("The channel should be closed", channel.isOpen());
+    }
+
+    @Test
+    public void closed() throws IOException {
+        final AsyncFailureLogger logger = new AsyncFailureLogger(
+                new BlockingChannel(new CountDownLatch(1), new CountDownLatch(0)));
+        logger.close();
+        Assert.assertFalse("A value handed over after closing should be dropped",
+                logger.offer(new Left<>("late")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity() {
+        new AsyncFailureLogger(new BlockingChannel(new CountDownLatch(1),
+                new CountDownLatch(0)), 0);
+    }
+
+    private static final class Unformattable {
+
+        @Override
+        public String toString() {
+            throw new IllegalStateException("toString");
+        }
+    }
+
+    private static final class Overflowing {
+
+        @Override
+        public String toString() {
+            return "Overflowing(" + this + ')';
+        }
+    }
+
+    private static final class BlockingChannel implements WritableByteChannel {
+
+        private final CountDownLatch writing;
+        private final CountDownLatch release;
+        private volatile boolean open = true;
+
+        private BlockingChannel(CountDownLatch writing, CountDownLatch release) {
+            this.writing = writing;
+            this.release = release;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            final int n = src.remaining();
+            src.position(src.limit());
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BufferDataInputTest {
+
+    @Test
+    public void readsDataOutputStreamFormat() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream stream = new DataOutputStream(bytes);
+        stream.writeByte(-1);
+        stream.writeShort(-2);
+        stream.writeUTF("aé€");
+        stream.writeBytes("line\r\nnext");
+
+        final BufferDataInput input = new BufferDataInput(ByteBuffer.wrap(bytes.toByteArray()));
+        Assert.assertEquals(255, input.readUnsignedByte());
+        Assert.assertEquals(65534, input.readUnsignedShort());
+        Assert.assertEquals("aé€", input.readUTF());
+        Assert.assertEquals("line", input.readLine());
+        Assert.assertEquals("next", input.readLine());
+        Assert.assertNull(input.readLine());
+    }
+
+    @Test
+    public void skipBytes() {
+        final BufferDataInput input = new BufferDataInput(ByteBuffer.allocate(4));
+        Assert.assertEquals(3, input.skipBytes(3));
+        Assert.assertEquals("Should not skip past the end", 1, input.skipBytes(3));
+    }
+
+    @Test(expected = EOFException.class)
+    public void endOfBuffer() throws IOException {
+        new BufferDataInput(ByteBuffer.allocate(2)).readInt();
+    }
+}
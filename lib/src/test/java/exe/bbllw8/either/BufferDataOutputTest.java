@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BufferDataOutputTest {
+
+    @Test
+    public void sameFormatAsDataOutputStream() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream stream = new DataOutputStream(bytes);
+        final ByteBuffer buffer = ByteBuffer.allocate(128);
+        final BufferDataOutput output = new BufferDataOutput(buffer);
+
+        stream.writeBoolean(true);
+        output.writeBoolean(true);
+        stream.writeShort(-2);
+        output.writeShort(-2);
+        stream.writeChar('x');
+        output.writeChar('x');
+        stream.writeFloat(1.5f);
+        output.writeFloat(1.5f);
+        stream.writeBytes("ab");
+        output.writeBytes("ab");
+        stream.writeChars("cd");
+        output.writeChars("cd");
+        stream.writeUTF("\u0000aé€");
+        output.writeUTF("\u0000aé€");
+
+        Assert.assertArrayEquals("Should write the same bytes",
+                bytes.toByteArray(),
+                Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void overflow() {
+        new BufferDataOutput(ByteBuffer.allocate(2)).writeInt(1);
+    }
+}
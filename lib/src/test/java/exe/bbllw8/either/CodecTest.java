@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CodecTest {
+
+    @Test
+    public void builtInRoundTrip() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        Codec.ints().encode(-7, buffer);
+        Codec.longs().encode(Long.MAX_VALUE, buffer);
+        Codec.doubles().encode(0.5, buffer);
+        Codec.strings().encode("héllo", buffer);
+        buffer.flip();
+        Assert.assertEquals(Integer.valueOf(-7), Codec.ints().decode(buffer));
+        Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), Codec.longs().decode(buffer));
+        Assert.assertEquals(Double.valueOf(0.5), Codec.doubles().decode(buffer));
+        Assert.assertEquals("héllo", Codec.strings().decode(buffer));
+        Assert.assertFalse("The whole buffer should be read", buffer.hasRemaining());
+    }
+
+    @Test
+    public void bufferAndStreamAgree() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Codec.strings().encode("either", new DataOutputStream(bytes));
+        final ByteBuffer buffer = ByteBuffer.allocate(bytes.size());
+        Codec.strings().encode("either", buffer);
+        Assert.assertArrayEquals("Buffers and streams should use the same format",
+                bytes.toByteArray(),
+                buffer.array());
+    }
+
+    @Test
+    public void longString() throws IOException {
+        final char[] chars = new char[3 * Codecs.CHUNK_SIZE + 1];
+        Arrays.fill(chars, 'e');
+        final String value = new String(chars);
+        final ByteBuffer buffer = ByteBuffer.allocate(chars.length + 4);
+        Codec.strings().encode(value, buffer);
+        buffer.flip();
+        Assert.assertEquals("Strings longer than a chunk should be read",
+                value,
+                Codec.strings().decode(buffer));
+    }
+
+    @Test(expected = IOException.class)
+    public void stringLengthLargerThanInput() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(Integer.MAX_VALUE);
+        out.write(new byte[]{'a', 'b', 'c'});
+        Codec.strings().decode(new DataInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+    @Test(expected = IOException.class)
+    public void stringNegativeLength() throws IOException {
+        Codec.strings().decode(ByteBuffer.allocate(4).putInt(0, -1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void littleEndianBuffer() throws IOException {
+        Codec.ints().encode(1, ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    public void decodeAll() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        for (int i = 0; i < 5; i++) {
+            Codec.ints().encode(i, out);
+        }
+        final List<Integer> values = Codec.ints()
+                .decodeAll(new ByteArrayInputStream(bytes.toByteArray()))
+                .collect(Collectors.toList());
+        Assert.assertEquals("All the values should be read", Arrays.asList(0, 1, 2, 3, 4), values);
+    }
+
+    @Test
+    public void decodeAllEmpty() {
+        Assert.assertEquals("An empty input should have no values",
+                0,
+                Codec.ints().decodeAll(new ByteArrayInputStream(new byte[0])).count());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void decodeAllTruncated() {
+        Codec.ints().decodeAll(new ByteArrayInputStream(new byte[]{0, 0, 0, 1, 0, 0})).count();
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class DirectTryArrayTest<T> {
+
+    private static final Throwable ERROR = new IllegalStateException("oops");
+
+    private final Fixture<T, DirectTryArray<T>> fixture;
+
+    public DirectTryArrayTest(String name, Fixture<T, DirectTryArray<T>> fixture) {
+        this.fixture = fixture;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> fixtures() {
+        return Arrays.asList(
+                new Object[]{"long", new Fixture<Long, LongTryArray>() {
+                    @Override
+                    LongTryArray create(int capacity) {
+                        return new LongTryArray(capacity);
+                    }
+
+                    @Override
+                    Long value(int i) {
+                        return (long) i;
+                    }
+
+                    @Override
+                    void addSuccess(LongTryArray array, Long value) {
+                        array.addSuccess(value);
+                    }
+
+                    @Override
+                    Long getPrimitive(LongTryArray array, int index) {
+                        return array.getLong(index);
+                    }
+
+                    @Override
+                    List<Long> stream(LongTryArray array) {
+                        return array.stream().boxed().collect(Collectors.toList());
+                    }
+
+                    @Override
+                    void forEach(LongTryArray array, StringBuilder sb) {
+                        array.forEach(sb::append, t -> sb.append(t.getMessage()));
+                    }
+                }},
+                new Object[]{"double", new Fixture<Double, DoubleTryArray>() {
+                    @Override
+                    DoubleTryArray create(int capacity) {
+                        return new DoubleTryArray(capacity);
+                    }
+
+                    @Override
+                    Double value(int i) {
+                        return i / 2.0;
+                    }
+
+                    @Override
+                    void addSuccess(DoubleTryArray array, Double value) {
+                        array.addSuccess(value);
+                    }
+
+                    @Override
+                    Double getPrimitive(DoubleTryArray array, int index) {
+                        return array.getDouble(index);
+                    }
+
+                    @Override
+                    List<Double> stream(DoubleTryArray array) {
+                        return array.stream().boxed().collect(Collectors.toList());
+                    }
+
+                    @Override
+                    void forEach(DoubleTryArray array, StringBuilder sb) {
+                        array.forEach(sb::append, t -> sb.append(t.getMessage()));
+                    }
+                }});
+    }
+
+    private DirectTryArray<T> sample() {
+        final DirectTryArray<T> array = fixture.create(2);
+        fixture.addSuccess(array, fixture.value(1));
+        array.addFailure(ERROR);
+        array.add(new Success<>(fixture.value(3)));
+        array.add(new Success<>(fixture.value(4)));
+        array.add(new Failure<>(ERROR));
+        return array;
+    }
+
+    @Test
+    public void size() {
+        Assert.assertEquals("All the results should be held, beyond the initial capacity",
+                5,
+                sample().size());
+    }
+
+    @Test
+    public void outcomes() {
+        final DirectTryArray<T> array = sample();
+        Assert.assertTrue("Should be a success", array.isSuccess(0));
+        Assert.assertTrue("Should be a failure", array.isFailure(1));
+        Assert.assertFalse("Should not be a failure", array.isFailure(3));
+        Assert.assertFalse("Should not be a success", array.isSuccess(4));
+    }
+
+    @Test
+    public void counts() {
+        final DirectTryArray<T> array = sample();
+        Assert.assertEquals("Should count the successes", 3, array.successCount());
+        Assert.assertEquals("Should count the failures", 2, array.failureCount());
+    }
+
+    @Test
+    public void notifiesOncePerFailure() {
+        final RecordingListener listener = (RecordingListener) OutcomeListeners.global().get(0);
+        listener.drain();
+        final DirectTryArray<T> array = sample();
+        Assert.assertEquals("Each failure should be notified once, when it is added",
+                Arrays.asList("failure:oops", "failure:oops"),
+                listener.drain());
+        array.get(1);
+        array.get(4);
+        Assert.assertEquals("Reading the results should not notify again",
+                Collections.emptyList(),
+                listener.drain());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void addNullFailure() {
+        fixture.create(1).addFailure(null);
+    }
+
+    @Test(expected = StackOverflowError.class)
+    public void addFatalFailure() {
+        fixture.create(1).addFailure(new StackOverflowError());
+    }
+
+    @Test
+    public void get() {
+        final DirectTryArray<T> array = sample();
+        Assert.assertEquals("Should return a success",
+                new Success<>(fixture.value(3)),
+                array.get(2));
+        Assert.assertEquals("Should return a failure", new Failure<>(ERROR), array.get(1));
+    }
+
+    @Test
+    public void getPrimitive() {
+        Assert.assertEquals("Should return the value",
+                fixture.value(4),
+                fixture.getPrimitive(sample(), 3));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getPrimitiveFailure() {
+        fixture.getPrimitive(sample(), 1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBounds() {
+        sample().get(5);
+    }
+
+    @Test
+    public void forEach() {
+        final StringBuilder sb = new StringBuilder();
+        fixture.forEach(sample(), sb);
+        Assert.assertEquals("The consumers should be applied in order",
+                fixture.value(1) + "oops" + fixture.value(3) + fixture.value(4) + "oops",
+                sb.toString());
+    }
+
+    @Test
+    public void stream() {
+        Assert.assertEquals("Should stream the successful values",
+                Arrays.asList(fixture.value(1), fixture.value(3), fixture.value(4)),
+                fixture.stream(sample()));
+    }
+
+    @Test
+    public void large() {
+        final DirectTryArray<T> array = fixture.create(0);
+        for (int i = 0; i < 100_000; i++) {
+            if (i % 10 == 0) {
+                array.addFailure(ERROR);
+            } else {
+                fixture.addSuccess(array, fixture.value(i));
+            }
+        }
+        Assert.assertEquals("Should count the failures", 10_000, array.failureCount());
+        Assert.assertEquals("Should return the value",
+                new Success<>(fixture.value(99_999)),
+                array.get(99_999));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCapacity() {
+        fixture.create(-1);
+    }
+
+    /**
+     * Operations of a concrete {@link DirectTryArray} that depend on its primitive type.
+     */
+    private abstract static class Fixture<T, A extends DirectTryArray<T>> {
+
+        abstract A create(int capacity);
+
+        abstract T value(int i);
+
+        abstract void addSuccess(A array, T value);
+
+        abstract T getPrimitive(A array, int index);
+
+        abstract List<T> stream(A array);
+
+        abstract void forEach(A array, StringBuilder sb);
+    }
+}
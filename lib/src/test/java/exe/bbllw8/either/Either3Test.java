@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public class Either3Test {
+
+    @Test(expected = NullPointerException.class)
+    public void nullValue() {
+        Either3.first(null);
+    }
+
+    @Test
+    public void tags() {
+        final Either3<Integer, String, Boolean> first = Either3.first(1);
+        Assert.assertTrue("Should be a first", first.isFirst());
+        Assert.assertFalse("Should not be a second", first.isSecond());
+        Assert.assertFalse("Should not be a third", first.isThird());
+
+        final Either3<Integer, String, Boolean> second = Either3.second("a");
+        Assert.assertFalse("Should not be a first", second.isFirst());
+        Assert.assertTrue("Should be a second", second.isSecond());
+        Assert.assertFalse("Should not be a third", second.isThird());
+
+        final Either3<Integer, String, Boolean> third = Either3.third(true);
+        Assert.assertFalse("Should not be a first", third.isFirst());
+        Assert.assertFalse("Should not be a second", third.isSecond());
+        Assert.assertTrue("Should be a third", third.isThird());
+    }
+
+    @Test
+    public void fold() {
+        Assert.assertEquals("Should apply the function of the first value",
+                "int 1",
+                Either3.<Integer, String, Boolean>first(1)
+                        .fold(x -> "int " + x, x -> "string " + x, x -> "boolean " + x));
+        Assert.assertEquals("Should apply the function of the second value",
+                "string a",
+                Either3.<Integer, String, Boolean>second("a")
+                        .fold(x -> "int " + x, x -> "string " + x, x -> "boolean " + x));
+        Assert.assertEquals("Should apply the function of the third value",
+                "boolean true",
+                Either3.<Integer, String, Boolean>third(true)
+                        .fold(x -> "int " + x, x -> "string " + x, x -> "boolean " + x));
+    }
+
+    @Test
+    public void forEach() {
+        final List<Object> list = new ArrayList<>();
+        Either3.<Integer, String, Boolean>second("a")
+                .forEach(x -> Assert.fail("Should not execute the consumer of the first value"),
+                        list::add,
+                        x -> Assert.fail("Should not execute the consumer of the third value"));
+        Assert.assertEquals("Should execute the consumer of the second value",
+                Collections.singletonList("a"), list);
+    }
+
+    @Test
+    public void mapMatchingSide() {
+        Assert.assertEquals("Should map the first value",
+                Either3.first(2),
+                Either3.<Integer, String, Boolean>first(1).mapFirst(x -> x * 2));
+        Assert.assertEquals("Should map the second value",
+                Either3.second(1),
+                Either3.<Integer, String, Boolean>second("a").mapSecond(String::length));
+        Assert.assertEquals("Should map the third value",
+                Either3.third(false),
+                Either3.<Integer, String, Boolean>third(true).mapThird(x -> !x));
+    }
+
+    @Test
+    public void mapOtherSide() {
+        final Either3<Integer, String, Boolean> second = Either3.second("a");
+        Assert.assertSame("Should return the same instance",
+                second,
+                second.mapFirst(x -> {
+                    Assert.fail("Should not apply the function");
+                    return x;
+                }));
+        Assert.assertSame("Should return the same instance",
+                second,
+                second.mapThird(x -> {
+                    Assert.fail("Should not apply the function");
+                    return x;
+                }));
+    }
+
+    @Test
+    public void toEither() {
+        Assert.assertEquals("Should be a left",
+                new Left<>(1),
+                Either3.<Integer, String, Boolean>first(1).toEither());
+        Assert.assertEquals("Should be a right of left",
+                new Right<>(new Left<>("a")),
+                Either3.<Integer, String, Boolean>second("a").toEither());
+        Assert.assertEquals("Should be a right of right",
+                new Right<>(new Right<>(true)),
+                Either3.<Integer, String, Boolean>third(true).toEither());
+    }
+
+    @Test
+    public void fromEither() {
+        Assert.assertEquals("Should be a first",
+                Either3.first(1),
+                Either3.fromEither(new Left<Integer, Either<String, Boolean>>(1)));
+        Assert.assertEquals("Should be a second",
+                Either3.second("a"),
+                Either3.fromEither(new Right<Integer, Either<String, Boolean>>(
+                        new Left<>("a"))));
+        Assert.assertEquals("Should be a third",
+                Either3.third(true),
+                Either3.fromEither(new Right<Integer, Either<String, Boolean>>(
+                        new Right<>(true))));
+    }
+
+    @Test
+    public void roundTrip() {
+        final Either3<Integer, String, Boolean> third = Either3.third(true);
+        Assert.assertEquals("Should be equal after a round trip",
+                third,
+                Either3.fromEither(third.toEither()));
+    }
+
+    @Test
+    public void equalsDistinguishesSides() {
+        Assert.assertNotEquals("Should not be equal if the sides differ",
+                Either3.<String, String, String>first("a"),
+                Either3.<String, String, String>second("a"));
+    }
+
+    @Test
+    public void hashCodeConsistent() {
+        Assert.assertEquals("Should have the same hash code",
+                Either3.third(12).hashCode(),
+                Either3.third(12).hashCode());
+    }
+
+    @Test
+    public void stringRepresentation() {
+        Assert.assertEquals("First(1)", Either3.first(1).toString());
+        Assert.assertEquals("Second(a)", Either3.second("a").toString());
+        Assert.assertEquals("Third(true)", Either3.third(true).toString());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public class Either4Test {
+
+    @Test(expected = NullPointerException.class)
+    public void nullValue() {
+        Either4.fourth(null);
+    }
+
+    @Test
+    public void tags() {
+        final Either4<Integer, String, Boolean, Long> fourth = Either4.fourth(1L);
+        Assert.assertFalse("Should not be a first", fourth.isFirst());
+        Assert.assertFalse("Should not be a second", fourth.isSecond());
+        Assert.assertFalse("Should not be a third", fourth.isThird());
+        Assert.assertTrue("Should be a fourth", fourth.isFourth());
+
+        final Either4<Integer, String, Boolean, Long> third = Either4.third(true);
+        Assert.assertTrue("Should be a third", third.isThird());
+        Assert.assertFalse("Should not be a fourth", third.isFourth());
+    }
+
+    @Test
+    public void fold() {
+        Assert.assertEquals("Should apply the function of the third value",
+                "boolean true",
+                Either4.<Integer, String, Boolean, Long>third(true)
+                        .fold(x -> "int " + x, x -> "string " + x, x -> "boolean " + x,
+                                x -> "long " + x));
+        Assert.assertEquals("Should apply the function of the fourth value",
+                "long 2",
+                Either4.<Integer, String, Boolean, Long>fourth(2L)
+                        .fold(x -> "int " + x, x -> "string " + x, x -> "boolean " + x,
+                                x -> "long " + x));
+    }
+
+    @Test
+    public void forEach() {
+        final List<Object> list = new ArrayList<>();
+        Either4.<Integer, String, Boolean, Long>fourth(2L)
+                .forEach(x -> Assert.fail("Should not execute the consumer of the first value"),
+                        x -> Assert.fail("Should not execute the consumer of the second value"),
+                        x -> Assert.fail("Should not execute the consumer of the third value"),
+                        list::add);
+        Assert.assertEquals("Should execute the consumer of the fourth value",
+                Collections.singletonList(2L), list);
+    }
+
+    @Test
+    public void mapMatchingSide() {
+        Assert.assertEquals("Should map the first value",
+                Either4.first(2),
+                Either4.<Integer, String, Boolean, Long>first(1).mapFirst(x -> x * 2));
+        Assert.assertEquals("Should map the fourth value",
+                Either4.fourth(3L),
+                Either4.<Integer, String, Boolean, Long>fourth(2L).mapFourth(x -> x + 1));
+    }
+
+    @Test
+    public void mapOtherSide() {
+        final Either4<Integer, String, Boolean, Long> first = Either4.first(1);
+        Assert.assertSame("Should return the same instance",
+                first,
+                first.mapFourth(x -> {
+                    Assert.fail("Should not apply the function");
+                    return x;
+                }));
+    }
+
+    @Test
+    public void toEither() {
+        Assert.assertEquals("Should be a left",
+                new Left<>(1),
+                Either4.<Integer, String, Boolean, Long>first(1).toEither());
+        Assert.assertEquals("Should be a right of left",
+                new Right<>(new Left<>("a")),
+                Either4.<Integer, String, Boolean, Long>second("a").toEither());
+        Assert.assertEquals("Should be a right of right of left",
+                new Right<>(new Right<>(new Left<>(true))),
+                Either4.<Integer, String, Boolean, Long>third(true).toEither());
+        Assert.assertEquals("Should be a right of right of right",
+                new Right<>(new Right<>(new Right<>(2L))),
+                Either4.<Integer, String, Boolean, Long>fourth(2L).toEither());
+    }
+
+    @Test
+    public void roundTrip() {
+        final List<Either4<Integer, String, Boolean, Long>> values = new ArrayList<>();
+        values.add(Either4.first(1));
+        values.add(Either4.second("a"));
+        values.add(Either4.third(true));
+        values.add(Either4.fourth(2L));
+        for (final Either4<Integer, String, Boolean, Long> value : values) {
+            Assert.assertEquals("Should be equal after a round trip",
+                    value,
+                    Either4.fromEither(value.toEither()));
+        }
+    }
+
+    @Test
+    public void equalsDistinguishesSides() {
+        Assert.assertNotEquals("Should not be equal if the sides differ",
+                Either4.<String, String, String, String>third("a"),
+                Either4.<String, String, String, String>fourth("a"));
+    }
+
+    @Test
+    public void hashCodeConsistent() {
+        Assert.assertEquals("Should have the same hash code",
+                Either4.fourth(12).hashCode(),
+                Either4.fourth(12).hashCode());
+    }
+
+    @Test
+    public void stringRepresentation() {
+        Assert.assertEquals("Third(true)", Either4.third(true).toString());
+        Assert.assertEquals("Fourth(2)", Either4.fourth(2L).toString());
+    }
+}
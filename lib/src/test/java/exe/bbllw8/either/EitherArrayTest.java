@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EitherArrayTest {
+
+    private static EitherArray<String, Integer> sample() {
+        return EitherArray.<String, Integer>builder()
+                .addRight(1)
+                .addLeft("two")
+                .addRight(3)
+                .add(new Left<>("four"))
+                .add(new Right<>(5))
+                .build();
+    }
+
+    @Test
+    public void size() {
+        Assert.assertEquals("All the values should be held", 5, sample().size());
+    }
+
+    @Test
+    public void sides() {
+        final EitherArray<String, Integer> array = sample();
+        Assert.assertTrue("Should be a right value", array.isRight(0));
+        Assert.assertTrue("Should be a left value", array.isLeft(1));
+        Assert.assertFalse("Should not be a right value", array.isRight(3));
+        Assert.assertFalse("Should not be a left value", array.isLeft(4));
+    }
+
+    @Test
+    public void get() {
+        final EitherArray<String, Integer> array = sample();
+        Assert.assertEquals("Should return the right value", new Right<>(3), array.get(2));
+        Assert.assertEquals("Should return the left value", new Left<>("four"), array.get(3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBounds() {
+        sample().get(5);
+    }
+
+    @Test
+    public void counts() {
+        final EitherArray<String, Integer> array = sample();
+        Assert.assertEquals("Should count the left values", 2, array.leftCount());
+        Assert.assertEquals("Should count the right values", 3, array.rightCount());
+    }
+
+    @Test
+    public void map() {
+        Assert.assertEquals("The function should be applied to the right values only",
+                Arrays.asList(new Right<>(2), new Left<>("two"), new Right<>(6),
+                        new Left<>("four"), new Right<>(10)),
+                IntStream.range(0, 5)
+                        .mapToObj(sample().map(x -> x * 2)::get)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void fold() {
+        Assert.assertEquals("The functions should be applied to the respective sides",
+                Arrays.asList("1", "TWO", "3", "FOUR", "5"),
+                sample().fold(String::toUpperCase, String::valueOf));
+    }
+
+    @Test
+    public void forEach() {
+        final StringBuilder sb = new StringBuilder();
+        sample().forEach(sb::append);
+        Assert.assertEquals("The consumer should be applied to the right values",
+                "135",
+                sb.toString());
+    }
+
+    @Test
+    public void biForEach() {
+        final StringBuilder sb = new StringBuilder();
+        sample().forEach(sb::append, sb::append);
+        Assert.assertEquals("The consumers should be applied in order",
+                "1two3four5",
+                sb.toString());
+    }
+
+    @Test
+    public void partition() {
+        final EitherArray<String, Integer> array = sample();
+        Assert.assertEquals("Should return the left values",
+                Arrays.asList("two", "four"),
+                array.lefts());
+        Assert.assertEquals("Should return the right values",
+                Arrays.asList(1, 3, 5),
+                array.rights());
+    }
+
+    @Test
+    public void stream() {
+        Assert.assertEquals("Should stream the right values",
+                Arrays.asList(1, 3, 5),
+                sample().stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void collector() {
+        Assert.assertEquals("Should collect the values in order",
+                sample(),
+                Stream.of(new Right<String, Integer>(1), new Left<String, Integer>("two"),
+                                new Right<String, Integer>(3), new Left<String, Integer>("four"),
+                                new Right<String, Integer>(5))
+                        .collect(EitherArray.collector()));
+    }
+
+    @Test
+    public void collectorParallel() {
+        final EitherArray<Integer, Integer> array = IntStream.range(0, 1000)
+                .boxed()
+                .parallel()
+                .map(i -> Either.from(i % 3 == 0, () -> i, () -> -i))
+                .collect(EitherArray.collector());
+        Assert.assertEquals("All the values should be collected", 1000, array.size());
+        Assert.assertEquals("Should count the right values", 334, array.rightCount());
+        Assert.assertEquals("The values should be in order",
+                new Left<>(-998),
+                array.get(998));
+        Assert.assertEquals("The values should be in order",
+                new Right<>(999),
+                array.get(999));
+    }
+
+    @Test
+    public void empty() {
+        final EitherArray<String, Integer> array = EitherArray.<String, Integer>builder().build();
+        Assert.assertEquals("Should be empty", 0, array.size());
+        Assert.assertEquals("Should have no right values", Collections.emptyList(),
+                array.rights());
+    }
+
+    @Test
+    public void equals() {
+        Assert.assertEquals("Arrays with the same values should be equal", sample(), sample());
+        Assert.assertNotEquals("Arrays with different sides should not be equal",
+                EitherArray.<Integer, Integer>builder().addLeft(1).build(),
+                EitherArray.<Integer, Integer>builder().addRight(1).build());
+    }
+
+    @Test
+    public void hashCodeEquals() {
+        Assert.assertEquals("Equal arrays should have the same hashCode",
+                sample().hashCode(),
+                sample().hashCode());
+    }
+
+    @Test
+    public void testToString() {
+        Assert.assertEquals("The values should be represented with their sides",
+                "EitherArray(Right(1), Left(two), Right(3), Left(four), Right(5))",
+                sample().toString());
+    }
+}
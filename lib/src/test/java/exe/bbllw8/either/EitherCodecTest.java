@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EitherCodecTest {
+
+    private final EitherCodec<String, Integer> codec = new EitherCodec<>(Codec.strings(),
+            Codec.ints());
+
+    @Test
+    public void roundTrip() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(new Left<>("error"), buffer);
+        codec.encode(new Right<>(12), buffer);
+        buffer.flip();
+        Assert.assertEquals(new Left<>("error"), codec.decode(buffer));
+        Assert.assertEquals(new Right<>(12), codec.decode(buffer));
+    }
+
+    @Test
+    public void compact() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(new Right<>(12), buffer);
+        Assert.assertEquals("Should write a one-byte tag and the value", 5, buffer.position());
+    }
+
+    @Test
+    public void sharesCommonValues() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(new Right<>(1), buffer);
+        buffer.flip();
+        Assert.assertSame("Common values should be shared",
+                Either.right(1),
+                codec.decode(buffer));
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidTag() throws IOException {
+        codec.decode(ByteBuffer.wrap(new byte[]{7, 0, 0, 0, 0}));
+    }
+}
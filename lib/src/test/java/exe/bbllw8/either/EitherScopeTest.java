@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EitherScopeTest {
+
+    @Test
+    public void bindRights() {
+        Assert.assertEquals("The result of the body should be returned in a right",
+                new Right<>(12),
+                EitherScope.<String, Integer>of(scope -> {
+                    final int width = scope.bind(new Right<>(3));
+                    final int height = scope.bind(new Right<>(4));
+                    return width * height;
+                }));
+    }
+
+    @Test
+    public void bindLeft() {
+        final Either<String, Integer> left = new Left<>("Not a number");
+        final boolean[] reached = {false};
+        final Either<String, Integer> result = EitherScope.of(scope -> {
+            final int a = scope.bind(left);
+            reached[0] = true;
+            return a;
+        });
+        Assert.assertSame("The left should be returned", left, result);
+        Assert.assertFalse("The rest of the body should be skipped", reached[0]);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void bodyThrows() {
+        EitherScope.<String, Integer>of(scope -> {
+            scope.bind(new Right<>(1));
+            throw new ArithmeticException();
+        });
+    }
+
+    @Test
+    public void nested() {
+        final Either<String, Integer> left = new Left<>("Oops");
+        final Either<String, Integer> result = EitherScope.of(outer -> {
+            final Either<Integer, Integer> inner = EitherScope.of(scope ->
+                    scope.bind(new Right<>(1)) + outer.bind(left));
+            Assert.fail("The inner scope should not catch the escape of the outer one");
+            return inner.getOrElse(0);
+        });
+        Assert.assertSame("The left should be returned by the outer scope", left, result);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void bindAfterClose() {
+        final List<EitherScope<String>> leaked = new ArrayList<>();
+        EitherScope.<String, Integer>of(scope -> {
+            leaked.add(scope);
+            return 0;
+        });
+        leaked.get(0).bind(new Right<>(1));
+    }
+}
@@ -4,6 +4,14 @@
  */
 package exe.bbllw8.either;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -34,4 +42,84 @@ public final class EitherTest {
                 new Left<>(0),
                 Either.from(false, () -> 1, () -> 0));
     }
+
+    @Test
+    public void leftCommonValueIsShared() {
+        Assert.assertSame("A common value should be held by a shared instance",
+                Either.left(Boolean.FALSE),
+                Either.left(false));
+    }
+
+    @SuppressWarnings({"deprecation", "removal"})
+    @Test
+    public void rightUncachedBoxIsKept() {
+        final Integer value = new Integer(42);
+        Assert.assertSame("A box that is not cached should be held as is",
+                value,
+                ((Right<?, Integer>) Either.right(value)).value());
+        final Boolean flag = new Boolean(true);
+        Assert.assertSame("A box that is not cached should be held as is",
+                flag,
+                ((Right<?, Boolean>) Either.right(flag)).value());
+    }
+
+    @Test
+    public void rightCommonValueIsShared() {
+        Assert.assertSame("A common value should be held by a shared instance",
+                Either.right(42),
+                Either.right(Integer.valueOf(42)));
+        Assert.assertSame("An immutable empty collection should be held by a shared instance",
+                Either.right(Collections.emptyList()),
+                Either.right(Collections.emptyList()));
+    }
+
+    @Test
+    public void rightUncommonValueIsNotShared() {
+        Assert.assertNotSame("An uncommon value should be held by a new instance",
+                Either.right(1000),
+                Either.right(1000));
+        Assert.assertNotSame("A mutable collection should be held by a new instance",
+                Either.right(new ArrayList<>()),
+                Either.right(new ArrayList<>()));
+    }
+
+    @Test
+    public void factoryEqualsConstructor() {
+        Assert.assertEquals("Should be equal to a new Left", new Left<>(1), Either.left(1));
+        Assert.assertEquals("Should be equal to a new Right", new Right<>(true),
+                Either.right(true));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void rightNull() {
+        Either.right(null);
+    }
+
+    @Test
+    public void lefts() {
+        Assert.assertEquals("Should keep the left values in order",
+                Arrays.asList(1, 3),
+                Either.lefts(Stream.<Either<Integer, String>>of(new Left<>(1),
+                        new Right<>("2"), new Left<>(3))).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void rights() {
+        Assert.assertEquals("Should keep the right values in order",
+                Arrays.asList("2"),
+                Either.rights(Stream.<Either<Integer, String>>of(new Left<>(1),
+                        new Right<>("2"), new Left<>(3))).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void rightsParallel() {
+        final List<Either<Integer, Integer>> eithers = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 3 == 0
+                        ? Either.<Integer, Integer>left(i)
+                        : Either.<Integer, Integer>right(i))
+                .collect(Collectors.toList());
+        Assert.assertEquals("Should keep the order in parallel streams",
+                eithers.stream().flatMap(Either::stream).collect(Collectors.toList()),
+                Either.rights(eithers.parallelStream()).collect(Collectors.toList()));
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EventsTest {
+
+    private static final String FAILURE = "exe.bbllw8.either.Failure";
+    private static final String RECOVERY = "exe.bbllw8.either.Recovery";
+
+    @Test
+    public void failureNotCommittedWhenDisabled() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.disable(FAILURE);
+            recording.start();
+            new Failure<>(new IllegalStateException("disabled"));
+            recording.stop();
+            Assert.assertTrue("No event should be committed if the event is not enabled",
+                    events(recording, FAILURE, "disabled").isEmpty());
+        }
+    }
+
+    @Test
+    public void failureCommittedWhenEnabled() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(FAILURE);
+            recording.start();
+            new Failure<>(new IllegalStateException("enabled"));
+            recording.stop();
+            final List<RecordedEvent> events = events(recording, FAILURE, "enabled");
+            Assert.assertEquals("An event should be committed", 1, events.size());
+            Assert.assertEquals("The event should hold the class of the throwable",
+                    IllegalStateException.class.getName(),
+                    events.get(0).getClass("throwableClass").getName());
+        }
+    }
+
+    @Test
+    public void recoveryCommittedWhenEnabled() throws IOException {
+        try (Recording recording = new Recording()) {
+            recording.enable(RECOVERY).withoutThreshold();
+            recording.start();
+            new Failure<Integer>(new IllegalStateException("recovered")).recover(t -> 1);
+            recording.stop();
+            final List<RecordedEvent> events = readAll(recording).stream()
+                    .filter(event -> RECOVERY.equals(event.getEventType().getName()))
+                    .collect(Collectors.toList());
+            Assert.assertEquals("An event should be committed", 1, events.size());
+            Assert.assertEquals("The event should hold the operation",
+                    "recover",
+                    events.get(0).getString("operation"));
+            Assert.assertTrue("The event should hold the outcome of the recovery",
+                    events.get(0).getBoolean("success"));
+        }
+    }
+
+    private static List<RecordedEvent> events(Recording recording, String name, String message)
+            throws IOException {
+        return readAll(recording).stream()
+                .filter(event -> name.equals(event.getEventType().getName()))
+                .filter(event -> message.equals(event.getString("message")))
+                .collect(Collectors.toList());
+    }
+
+    private static List<RecordedEvent> readAll(Recording recording) throws IOException {
+        final Path file = Files.createTempFile("either", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -5,6 +5,8 @@
 package exe.bbllw8.either;
 
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -85,6 +87,14 @@ public class FailureTest {
                 }).map(Object::hashCode));
     }
 
+    @Test
+    public void withType() {
+        final Failure<Integer> failure = new Failure<>(new Throwable("walnut"));
+        Assert.assertSame("Up-casting should not create a new instance",
+                failure,
+                failure.<String>withType());
+    }
+
     @Test
     public void filter() {
         Assert.assertTrue("Should remain a failure regardless of the filter",
@@ -106,6 +116,14 @@ public class FailureTest {
                 new Failure<>(new Throwable("1")).recover(t -> Integer.parseInt(t.getMessage())));
     }
 
+    @Test
+    public void recoverThrowing() {
+        Assert.assertTrue("Should return a failure if the given function throws",
+                new Failure<Integer>(new Throwable("one"))
+                        .recover(t -> Integer.parseInt(t.getMessage()))
+                        .isFailure());
+    }
+
     @Test
     public void toOptional() {
         Assert.assertEquals("Should be mapped to an empty Optional",
@@ -113,6 +131,20 @@ public class FailureTest {
                 new Failure<>(new Throwable()).tOptional());
     }
 
+    @Test
+    public void toOptionalInt() {
+        Assert.assertEquals("Should be mapped to an empty OptionalInt",
+                OptionalInt.empty(),
+                new Failure<String>(new Throwable()).toOptionalInt(String::length));
+    }
+
+    @Test
+    public void toOptionalLong() {
+        Assert.assertEquals("Should be mapped to an empty OptionalLong",
+                OptionalLong.empty(),
+                new Failure<String>(new Throwable()).toOptionalLong(String::length));
+    }
+
     @Test
     public void toEither() {
         final IllegalAccessException iae = new IllegalAccessException();
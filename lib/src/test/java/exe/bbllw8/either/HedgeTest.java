@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HedgeTest {
+
+    private static final Duration LONG_DELAY = Duration.ofSeconds(30);
+
+    @Test
+    public void fastPrimary() {
+        final AtomicInteger backups = new AtomicInteger();
+        final Try<String> result = Hedge.builder(() -> "primary", LONG_DELAY)
+                .backup(() -> {
+                    backups.incrementAndGet();
+                    return "backup";
+                })
+                .build()
+                .get();
+        Assert.assertEquals("The result of the primary should be returned",
+                new Success<>("primary"),
+                result);
+        Assert.assertEquals("The backup should not be started", 0, backups.get());
+    }
+
+    @Test
+    public void slowPrimary() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final Try<String> result = Hedge.<String>builder(() -> {
+                    try {
+                        Thread.sleep(30_000L);
+                        return "primary";
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                }, Duration.ofMillis(10))
+                .backup(() -> "backup")
+                .build()
+                .get();
+        Assert.assertEquals("The result of the backup should be returned",
+                new Success<>("backup"),
+                result);
+        Assert.assertTrue("The primary should be cancelled",
+                interrupted.await(10L, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void failedPrimaryStartsBackup() {
+        final long start = System.nanoTime();
+        final Try<String> result = Hedge.<String>builder(() -> {
+                    throw new IOException();
+                }, LONG_DELAY)
+                .backup(() -> "backup")
+                .build()
+                .get();
+        Assert.assertEquals("The result of the backup should be returned",
+                new Success<>("backup"),
+                result);
+        Assert.assertTrue("The backup should not wait for the delay",
+                System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10L));
+    }
+
+    @Test
+    public void allFail() {
+        final IOException primary = new IOException("primary");
+        final IllegalStateException backup = new IllegalStateException("backup");
+        final Try<String> result = Hedge.<String>builder(() -> {
+                    throw primary;
+                }, Duration.ZERO)
+                .backup(() -> {
+                    throw backup;
+                })
+                .build()
+                .get();
+        final Throwable t = result.failed().get();
+        Assert.assertTrue("The failure should hold a HedgeException",
+                t instanceof HedgeException);
+        Assert.assertSame("The throwable of the primary should be the cause",
+                primary,
+                t.getCause());
+        Assert.assertArrayEquals("The others should be suppressed",
+                new Throwable[]{backup},
+                t.getSuppressed());
+        Assert.assertEquals("The throwables of the suppliers should not be modified",
+                0,
+                primary.getSuppressed().length);
+    }
+
+    @Test
+    public void executor() {
+        final AtomicInteger executed = new AtomicInteger();
+        final Try<Integer> result = Hedge.builder(() -> 1, LONG_DELAY)
+                .executor(r -> {
+                    executed.incrementAndGet();
+                    new Thread(r).start();
+                })
+                .build()
+                .get();
+        Assert.assertEquals("The result should be returned", new Success<>(1), result);
+        Assert.assertEquals("The given executor should be used", 1, executed.get());
+    }
+
+    @Test
+    public void rejected() {
+        final Try<Integer> result = Hedge.builder(() -> 1, Duration.ZERO)
+                .executor(r -> {
+                    throw new RejectedExecutionException();
+                })
+                .build()
+                .get();
+        Assert.assertTrue("A rejected attempt should fail", result.isFailure());
+    }
+
+    @Test
+    public void interrupted() {
+        final Hedge<Integer> hedge = Hedge.<Integer>builder(() -> {
+            Thread.sleep(30_000L);
+            return 1;
+        }, LONG_DELAY).build();
+        Thread.currentThread().interrupt();
+        final Try<Integer> result = hedge.get();
+        Assert.assertTrue("The interrupt status should be restored", Thread.interrupted());
+        Assert.assertTrue("The result should be a failure holding an InterruptedException",
+                result.failed().get() instanceof InterruptedException);
+    }
+
+    @Test
+    public void percentileDelay() {
+        final Hedge<Integer> hedge = Hedge.builder(() -> 1, LONG_DELAY)
+                .percentileDelay(95.0)
+                .build();
+        Assert.assertEquals("The initial delay should be used",
+                LONG_DELAY.toNanos(),
+                hedge.delayNanos());
+        for (int i = 0; i < 64; i++) {
+            hedge.get();
+        }
+        Assert.assertTrue("The delay should be estimated from the latencies",
+                hedge.delayNanos() < LONG_DELAY.toNanos());
+    }
+
+    @Test
+    public void percentileDelayCancelledPrimary() {
+        final Hedge<String> hedge = Hedge.<String>builder(() -> {
+                    Thread.sleep(30_000L);
+                    return "primary";
+                }, Duration.ZERO)
+                .backup(() -> "backup")
+                .percentileDelay(95.0)
+                .build();
+        for (int i = 0; i < 64; i++) {
+            hedge.get();
+        }
+        Assert.assertTrue("The latencies of cancelled primaries should be recorded",
+                hedge.delayNanos() > 0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeDelay() {
+        Hedge.builder(() -> 1, Duration.ofMillis(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPercentile() {
+        Hedge.builder(() -> 1, Duration.ZERO).percentileDelay(0.0);
+    }
+}
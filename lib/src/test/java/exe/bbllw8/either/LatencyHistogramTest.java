@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void empty() {
+        Assert.assertEquals("An empty histogram should have no values",
+                0,
+                new LatencyHistogram().percentile(50));
+    }
+
+    @Test
+    public void smallValuesAreExact() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 20).forEach(histogram::record);
+        Assert.assertEquals("Should count the values", 20, histogram.count());
+        Assert.assertEquals("Should return the median", 10, histogram.percentile(50));
+        Assert.assertEquals("Should return the maximum", 20, histogram.percentile(100));
+    }
+
+    @Test
+    public void largeValuesAreApproximated() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 1000).forEach(i -> histogram.record(i * 1_000_000L));
+        final long p95 = histogram.percentile(95);
+        Assert.assertTrue("The relative error should be small",
+                Math.abs(p95 - 950_000_000L) <= 950_000_000L / 32);
+        Assert.assertTrue("Should not underestimate the value", p95 >= 950_000_000L);
+    }
+
+    @Test
+    public void largestValue() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals("Should support the largest value",
+                Long.MAX_VALUE,
+                histogram.percentile(100));
+    }
+
+    @Test
+    public void bucketsBoundaries() {
+        for (long value : new long[]{31L, 32L, 33L, 63L, 64L, 1000L, 123_456_789L}) {
+            final long highest = LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(value));
+            Assert.assertTrue("The bucket should contain the value", highest >= value);
+            Assert.assertEquals("The highest value should be in the same bucket",
+                    LatencyHistogram.indexOf(value),
+                    LatencyHistogram.indexOf(highest));
+            Assert.assertNotEquals("The next value should be in the next bucket",
+                    LatencyHistogram.indexOf(value),
+                    LatencyHistogram.indexOf(highest + 1));
+        }
+    }
+
+    @Test
+    public void negativeValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5L);
+        Assert.assertEquals("Negative values should be recorded as 0",
+                0,
+                histogram.percentile(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPercentile() {
+        new LatencyHistogram().percentile(101);
+    }
+
+    @Test
+    public void reset() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1L);
+        histogram.reset();
+        Assert.assertEquals("Should clear the values", 0, histogram.count());
+    }
+}
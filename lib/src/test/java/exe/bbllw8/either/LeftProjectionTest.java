@@ -58,6 +58,14 @@ public class LeftProjectionTest {
                 new Left<>(12).left().filterToOptional(x -> x > 10));
     }
 
+    @Test
+    public void filterToOptionalProjectionFromLeftReusesLeft() {
+        final Left<Integer, Integer> left = new Left<>(12);
+        Assert.assertSame("The Optional should contain the projected Left itself",
+                left,
+                left.left().filterToOptional(x -> x > 10).get());
+    }
+
     @Test
     public void filterToOptionalProjectionFromLeftPredicateNotSatisfied() {
         Assert.assertEquals("The Optional should be empty if the predicate is not satisfied",
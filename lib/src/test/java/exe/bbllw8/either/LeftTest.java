@@ -5,6 +5,8 @@
 package exe.bbllw8.either;
 
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -162,6 +164,20 @@ public class LeftTest {
                 new Left<>(12).toOptional());
     }
 
+    @Test
+    public void toOptionalInt() {
+        Assert.assertEquals("An empty OptionalInt should be returned",
+                OptionalInt.empty(),
+                new Left<Integer, String>(12).toOptionalInt(String::length));
+    }
+
+    @Test
+    public void toOptionalLong() {
+        Assert.assertEquals("An empty OptionalLong should be returned",
+                OptionalLong.empty(),
+                new Left<Integer, String>(12).toOptionalLong(String::length));
+    }
+
     @Test
     public void joinLeft() {
         Assert.assertEquals("The inner value should be returned",
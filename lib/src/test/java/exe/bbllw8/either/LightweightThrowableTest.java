@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LightweightThrowableTest {
+
+    @Test
+    public void keepsClassNameAndMessage() {
+        final LightweightThrowable t = LightweightThrowable.of(new IOException("disk"));
+        Assert.assertEquals("Should keep the class name",
+                "java.io.IOException",
+                t.getOriginalClassName());
+        Assert.assertEquals("Should keep the message", "disk", t.getMessage());
+    }
+
+    @Test
+    public void hasNoStackTrace() {
+        Assert.assertEquals("Should not capture the stack trace",
+                0,
+                LightweightThrowable.of(new IOException()).getStackTrace().length);
+    }
+
+    @Test
+    public void stackTraceCanBeSet() {
+        final LightweightThrowable t = new LightweightThrowable("Foo", null, null);
+        final StackTraceElement[] stack = {new StackTraceElement("Foo", "bar", "Foo.java", 1)};
+        t.setStackTrace(stack);
+        Assert.assertArrayEquals("Should keep the given stack trace", stack, t.getStackTrace());
+    }
+
+    @Test
+    public void keepsCauses() {
+        final LightweightThrowable t = LightweightThrowable.of(
+                new IllegalStateException("outer", new IOException("inner")));
+        Assert.assertTrue("The cause should be lightweight",
+                t.getCause() instanceof LightweightThrowable);
+        Assert.assertEquals("Should keep the cause",
+                "java.io.IOException: inner",
+                t.getCause().toString());
+    }
+
+    @Test
+    public void ofLightweightIsIdentity() {
+        final LightweightThrowable t = new LightweightThrowable("Foo", "bar", null);
+        Assert.assertSame("Should not wrap a lightweight throwable",
+                t,
+                LightweightThrowable.of(t));
+    }
+
+    @Test
+    public void testToString() {
+        Assert.assertEquals("Should look like the original throwable",
+                new IOException("disk").toString(),
+                LightweightThrowable.of(new IOException("disk")).toString());
+        Assert.assertEquals("Should look like the original throwable",
+                new IOException().toString(),
+                LightweightThrowable.of(new IOException()).toString());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MetricsListenerTest {
+
+    @Test
+    public void countsTryFrom() {
+        final MetricsListener listener = new MetricsListener();
+        listener.onTryFrom(true, 10L);
+        listener.onTryFrom(true, 20L);
+        listener.onTryFrom(false, 30L);
+        Assert.assertEquals("Should count the successes", 2, listener.getTryFromSuccesses());
+        Assert.assertEquals("Should count the failures", 1, listener.getTryFromFailures());
+        Assert.assertEquals("Should record the latencies",
+                3,
+                listener.getTryFromLatency().count());
+    }
+
+    @Test
+    public void countsFailures() {
+        final MetricsListener listener = new MetricsListener();
+        listener.onFailure(new Throwable());
+        Assert.assertEquals("Should count the failures", 1, listener.getFailures());
+    }
+
+    @Test
+    public void countsEitherFrom() {
+        final MetricsListener listener = new MetricsListener();
+        listener.onEitherFrom(true);
+        listener.onEitherFrom(false);
+        listener.onEitherFrom(false);
+        Assert.assertEquals("Should count the rights", 1, listener.getEitherFromRights());
+        Assert.assertEquals("Should count the lefts", 2, listener.getEitherFromLefts());
+    }
+
+    @Test
+    public void reset() {
+        final MetricsListener listener = new MetricsListener();
+        listener.onTryFrom(true, 10L);
+        listener.onEitherFrom(true);
+        listener.reset();
+        Assert.assertEquals("Should clear the counters", 0, listener.getTryFromSuccesses());
+        Assert.assertEquals("Should clear the counters", 0, listener.getEitherFromRights());
+        Assert.assertEquals("Should clear the histogram",
+                0,
+                listener.getTryFromLatency().count());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OutcomeAggregatorTest {
+
+    @Test
+    public void tries() {
+        final OutcomeAggregator aggregator = new OutcomeAggregator();
+        final IOException first = new IOException("first");
+        aggregator.accept(new Success<>(1));
+        aggregator.accept(new Failure<>(first));
+        aggregator.accept(new Failure<>(new IOException("second")));
+        aggregator.accept(new Failure<>(new IllegalStateException()));
+
+        final OutcomeAggregator.Snapshot snapshot = aggregator.snapshot();
+        Assert.assertEquals("Successes should be counted", 1L, snapshot.successes());
+        Assert.assertEquals("Failures should be counted", 3L, snapshot.failures());
+        Assert.assertEquals("Failures should be counted per class",
+                Long.valueOf(2L),
+                snapshot.failuresByClass().get(IOException.class));
+        Assert.assertEquals("Failures should be counted per class",
+                Long.valueOf(1L),
+                snapshot.failuresByClass().get(IllegalStateException.class));
+        Assert.assertSame("The first failures should be kept",
+                first,
+                snapshot.firstFailures().get(0));
+    }
+
+    @Test
+    public void eithers() {
+        final OutcomeAggregator aggregator = new OutcomeAggregator();
+        aggregator.accept(new Right<>(1));
+        aggregator.accept(new Right<>(2));
+        aggregator.accept(new Left<>("not found"));
+        aggregator.accept(new Left<>("not found"));
+        aggregator.accept(new Left<>("forbidden"));
+
+        final OutcomeAggregator.Snapshot snapshot = aggregator.snapshot();
+        Assert.assertEquals("Rights should be counted", 2L, snapshot.rights());
+        Assert.assertEquals("Lefts should be counted", 3L, snapshot.lefts());
+        Assert.assertEquals("Lefts should be counted per value",
+                Long.valueOf(2L),
+                snapshot.leftsByValue().get("not found"));
+        Assert.assertEquals("The first lefts should be kept",
+                Arrays.asList("not found", "not found", "forbidden"),
+                snapshot.firstLefts());
+    }
+
+    @Test
+    public void boundedSamples() {
+        final OutcomeAggregator aggregator = new OutcomeAggregator(2, 1);
+        aggregator.accept(new Left<>("a"));
+        aggregator.accept(new Left<>("b"));
+        aggregator.accept(new Left<>("c"));
+
+        final OutcomeAggregator.Snapshot snapshot = aggregator.snapshot();
+        Assert.assertEquals("All the lefts should be counted", 3L, snapshot.lefts());
+        Assert.assertEquals("Only the allowed number of values should be counted separately",
+                1,
+                snapshot.leftsByValue().size());
+        Assert.assertEquals("Only the first lefts should be kept",
+                Arrays.asList("a", "b"),
+                snapshot.firstLefts());
+    }
+
+    @Test
+    public void concurrent() throws InterruptedException {
+        final OutcomeAggregator aggregator = new OutcomeAggregator();
+        final int threads = 8;
+        final int outcomes = 10_000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < outcomes; j++) {
+                    aggregator.accept(j % 2 == 0
+                            ? new Success<>(j)
+                            : new Failure<>(new IllegalStateException()));
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+
+        final OutcomeAggregator.Snapshot snapshot = aggregator.snapshot();
+        final long expected = threads * outcomes / 2L;
+        Assert.assertEquals("All the successes should be counted",
+                expected,
+                snapshot.successes());
+        Assert.assertEquals("All the failures should be counted per class",
+                Long.valueOf(expected),
+                snapshot.failuresByClass().get(IllegalStateException.class));
+        Assert.assertEquals("The sample should be full", 16, snapshot.firstFailures().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeSampleSize() {
+        new OutcomeAggregator(-1, 1);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OutcomeListenersTest {
+
+    private RecordingListener global;
+
+    @Before
+    public void setUp() {
+        global = (RecordingListener) OutcomeListeners.global().get(0);
+        global.drain();
+    }
+
+    @Test
+    public void loadsGlobalListeners() {
+        Assert.assertEquals("The listener registered as a service should be loaded",
+                1,
+                OutcomeListeners.global().size());
+        Assert.assertTrue("Notifications should be enabled", OutcomeListeners.isEnabled());
+    }
+
+    @Test
+    public void tryFromSuccess() {
+        Try.from(() -> "hello");
+        Assert.assertEquals("Should be notified of the success",
+                Collections.singletonList("from:success"),
+                global.drain());
+    }
+
+    @Test
+    public void tryFromFailure() {
+        Try.from(() -> {
+            throw new IllegalStateException("bean");
+        });
+        Assert.assertEquals("Should be notified of the failure",
+                Arrays.asList("from:failure", "failure:bean"),
+                global.drain());
+    }
+
+    @Test
+    public void eitherFrom() {
+        Either.from(true, () -> 1, () -> 0);
+        Either.from(false, () -> 1, () -> 0);
+        Assert.assertEquals("Should be notified of the outcomes",
+                Arrays.asList("either:right", "either:left"),
+                global.drain());
+    }
+
+    @Test
+    public void withScope() {
+        final MetricsListener scoped = new MetricsListener();
+        final int result = OutcomeListeners.withScope(scoped, () -> {
+            Try.from(() -> 1);
+            Either.from(false, () -> 1, () -> 0);
+            return 2;
+        });
+        Try.from(() -> 3);
+
+        Assert.assertEquals("Should return the value of the supplier", 2, result);
+        Assert.assertEquals("The scoped listener should be notified within the scope",
+                1,
+                scoped.getTryFromSuccesses());
+        Assert.assertEquals("The scoped listener should be notified within the scope",
+                1,
+                scoped.getEitherFromLefts());
+        Assert.assertEquals("The global listener should always be notified",
+                Arrays.asList("from:success", "either:left", "from:success"),
+                global.drain());
+    }
+
+    @Test
+    public void withNestedScope() {
+        final MetricsListener outer = new MetricsListener();
+        final MetricsListener inner = new MetricsListener();
+        OutcomeListeners.withScope(outer, () -> {
+            OutcomeListeners.withScope(inner, () -> Try.from(() -> 1));
+            return Try.from(() -> 2);
+        });
+        Assert.assertEquals("The inner listener should only be notified in its scope",
+                1,
+                inner.getTryFromSuccesses());
+        Assert.assertEquals("The outer listener should be restored after the inner scope",
+                1,
+                outer.getTryFromSuccesses());
+    }
+
+    @Test
+    public void throwingListenerDoesNotAffectSuccess() {
+        final List<Throwable> reported = new ArrayList<>();
+        final Try<Integer> result = withThrowingListener(reported, () -> Try.from(() -> 1));
+        Assert.assertEquals("The exception of a listener should not affect the outcome",
+                new Success<>(1),
+                result);
+        Assert.assertEquals("The other listeners should be notified once",
+                Collections.singletonList("from:success"),
+                global.drain());
+        Assert.assertEquals("The exception of the listener should be reported",
+                1,
+                reported.size());
+    }
+
+    @Test
+    public void throwingListenerDoesNotAffectFailure() {
+        final List<Throwable> reported = new ArrayList<>();
+        final Try<Integer> result = withThrowingListener(reported, () -> Try.from(() -> {
+            throw new IllegalStateException("bean");
+        }));
+        Assert.assertEquals("The exception of a listener should not replace the failure",
+                "bean",
+                result.failed().get().getMessage());
+        Assert.assertEquals("The other listeners should be notified once",
+                Arrays.asList("from:failure", "failure:bean"),
+                global.drain());
+        Assert.assertEquals("The exceptions of the listener should be reported",
+                2,
+                reported.size());
+    }
+
+    @Test
+    public void throwingListenerEitherFrom() {
+        final List<Throwable> reported = new ArrayList<>();
+        Assert.assertEquals("The exception of a listener should not affect the outcome",
+                new Right<>(1),
+                withThrowingListener(reported, () -> Either.from(true, () -> 1, () -> 0)));
+        Assert.assertEquals("The exception of the listener should be reported",
+                1,
+                reported.size());
+        global.drain();
+    }
+
+    /**
+     * Evaluates the given supplier within the scope of a listener that always throws,
+     * collecting the exceptions reported to the uncaught exception handler.
+     */
+    /* package */ static <T> T withThrowingListener(List<Throwable> reported,
+                                                    Supplier<T> supplier) {
+        final Thread thread = Thread.currentThread();
+        final Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+        try {
+            return OutcomeListeners.withScope(new ThrowingListener(), supplier);
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+    }
+
+    private static final class ThrowingListener implements OutcomeListener {
+
+        @Override
+        public void onTryFrom(boolean success, long durationNanos) {
+            throw new IllegalStateException("onTryFrom");
+        }
+
+        @Override
+        public void onFailure(Throwable throwable) {
+            throw new IllegalStateException("onFailure");
+        }
+
+        @Override
+        public void onEitherFrom(boolean right) {
+            throw new IllegalStateException("onEitherFrom");
+        }
+    }
+}
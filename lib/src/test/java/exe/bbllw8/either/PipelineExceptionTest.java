@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PipelineExceptionTest {
+
+    @Test
+    public void stageAndCause() {
+        final IllegalStateException cause = new IllegalStateException();
+        final PipelineException e = new PipelineException(3, cause);
+        Assert.assertEquals("The stage should be retained", 3, e.getStage());
+        Assert.assertSame("The cause should be retained", cause, e.getCause());
+    }
+
+    @Test
+    public void noStackTrace() {
+        Assert.assertEquals("The stack trace should not be captured",
+                0,
+                new PipelineException(0, new Throwable()).getStackTrace().length);
+    }
+}
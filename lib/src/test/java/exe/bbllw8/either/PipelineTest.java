@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PipelineTest {
+
+    private final Pipeline<String, Integer> parse = Pipeline.<String>identity()
+            .andThen(String::trim)
+            .andThen(Integer::parseInt)
+            .andThen(x -> x * 2);
+
+    @Test
+    public void identity() throws Throwable {
+        Assert.assertEquals("The identity should return its input",
+                "cookie",
+                Pipeline.<String>identity().apply("cookie"));
+        Assert.assertEquals("The identity should have no stages",
+                0,
+                Pipeline.identity().size());
+    }
+
+    @Test
+    public void apply() throws Throwable {
+        Assert.assertEquals("The stages should be applied in order",
+                Integer.valueOf(24),
+                parse.apply(" 12 "));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void applyThrowing() throws Throwable {
+        parse.apply("twelve");
+    }
+
+    @Test
+    public void runSuccess() {
+        Assert.assertEquals("The result should be returned in a success",
+                new Success<>(24),
+                parse.run(" 12 "));
+    }
+
+    @Test
+    public void runFailure() {
+        final Try<Integer> result = parse.run("twelve");
+        Assert.assertTrue("Should return a failure", result.isFailure());
+        final Throwable t = result.failed().get();
+        Assert.assertTrue("The failure should hold a PipelineException",
+                t instanceof PipelineException);
+        Assert.assertEquals("The index of the failed stage should be recorded",
+                1,
+                ((PipelineException) t).getStage());
+        Assert.assertTrue("The cause should be the exception thrown by the stage",
+                t.getCause() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void andThenFlattens() {
+        final Pipeline<Integer, String> format = Pipeline.of(Object::toString);
+        Assert.assertEquals("The stages of both pipelines should be concatenated",
+                4,
+                parse.andThen(format).size());
+    }
+
+    @Test
+    public void composeFlattens() throws Throwable {
+        final Pipeline<String, String> prefix = Pipeline.<String>identity()
+                .andThen(s -> s.substring(1))
+                .andThen(s -> s.substring(1));
+        final Pipeline<String, Integer> composed = parse.compose(prefix);
+        Assert.assertEquals("The stages of both pipelines should be concatenated",
+                5,
+                composed.size());
+        Assert.assertEquals("The given pipeline should be applied first",
+                Integer.valueOf(24),
+                composed.apply("ab12"));
+    }
+
+    @Test
+    public void checkedFunctionAndThen() throws Throwable {
+        final CheckedFunction<String, String> trim = String::trim;
+        final CheckedFunction<String, Integer> composed = trim.andThen(Integer::parseInt)
+                .andThen(x -> x + 1)
+                .andThen(x -> x * 2);
+        Assert.assertTrue("Composed functions should be pipelines",
+                composed instanceof Pipeline);
+        Assert.assertEquals("The stages should be flattened",
+                4,
+                ((Pipeline<String, Integer>) composed).size());
+        Assert.assertEquals("The functions should be applied in order",
+                Integer.valueOf(4),
+                composed.apply(" 1 "));
+    }
+
+    @Test
+    public void andThenChain() throws Throwable {
+        Pipeline<Integer, Integer> pipeline = Pipeline.identity();
+        for (int i = 0; i < 10_000; i++) {
+            pipeline = pipeline.andThen(x -> x + 1);
+        }
+        Assert.assertEquals("Each stage should be appended",
+                10_000,
+                pipeline.size());
+        Assert.assertEquals("Each stage should be applied",
+                Integer.valueOf(10_000),
+                pipeline.apply(0));
+    }
+
+    @Test
+    public void checkedFunctionCompose() throws Throwable {
+        final CheckedFunction<Integer, Integer> doubled = x -> x * 2;
+        final CheckedFunction<String, Integer> composed = doubled.<Integer>compose(x -> x + 1)
+                .<String>compose(Integer::parseInt)
+                .compose(String::trim);
+        Assert.assertTrue("Composed functions should be pipelines",
+                composed instanceof Pipeline);
+        Assert.assertEquals("The stages should be flattened",
+                4,
+                ((Pipeline<String, Integer>) composed).size());
+        Assert.assertEquals("The functions should be applied in order",
+                Integer.valueOf(4),
+                composed.apply(" 1 "));
+    }
+
+    @Test
+    public void composeChain() throws Throwable {
+        Pipeline<Integer, Integer> pipeline = Pipeline.identity();
+        for (int i = 0; i < 10_000; i++) {
+            pipeline = pipeline.compose(x -> x + 1);
+        }
+        Assert.assertEquals("Each stage should be prepended",
+                10_000,
+                pipeline.size());
+        Assert.assertEquals("Each stage should be applied",
+                Integer.valueOf(10_000),
+                pipeline.apply(0));
+    }
+
+    @Test
+    public void composeBranches() throws Throwable {
+        final Pipeline<String, String> base = Pipeline.<String>identity()
+                .andThen(x -> x + "c");
+        final Pipeline<String, String> first = base.compose(x -> x + "a");
+        final Pipeline<String, String> second = base.compose(x -> x + "b");
+        Assert.assertEquals("Prepending to a pipeline should not change it",
+                "c",
+                base.apply(""));
+        Assert.assertEquals("The first branch should keep its stage",
+                "ac",
+                first.apply(""));
+        Assert.assertEquals("The second branch should keep its stage",
+                "bc",
+                second.apply(""));
+        Assert.assertEquals("Appending and prepending should share the stages",
+                "bcd",
+                second.andThen(x -> x + "d").apply(""));
+    }
+
+    @Test
+    public void andThenBranches() throws Throwable {
+        final Pipeline<String, Integer> base = Pipeline.<String>identity()
+                .andThen(String::trim)
+                .andThen(Integer::parseInt);
+        final Pipeline<String, Integer> doubled = base.andThen(x -> x * 2);
+        final Pipeline<String, Integer> negated = base.andThen(x -> -x);
+        Assert.assertEquals("Appending to a pipeline should not change it",
+                Integer.valueOf(12),
+                base.apply(" 12 "));
+        Assert.assertEquals("The first branch should keep its stage",
+                Integer.valueOf(24),
+                doubled.apply(" 12 "));
+        Assert.assertEquals("The second branch should keep its stage",
+                Integer.valueOf(-12),
+                negated.apply(" 12 "));
+    }
+
+    @Test
+    public void runNotifiesListeners() {
+        final RecordingListener listener = (RecordingListener) OutcomeListeners.global().get(0);
+        listener.drain();
+        parse.run(" 12 ");
+        Assert.assertEquals("Should be notified of the success",
+                Collections.singletonList("from:success"),
+                listener.drain());
+        final Throwable t = parse.run("twelve").failed().get();
+        Assert.assertEquals("Should be notified of the failure",
+                Arrays.asList("from:failure", "failure:" + t.getMessage()),
+                listener.drain());
+    }
+
+    @Test
+    public void ofPipeline() {
+        Assert.assertSame("A pipeline should not be wrapped",
+                parse,
+                Pipeline.of(parse));
+    }
+
+    @Test
+    public void runWithIdentity() {
+        Assert.assertEquals("A pipeline without stages should return its input",
+                new Success<>("cookie"),
+                Pipeline.<String>identity().run("cookie"));
+    }
+
+    @Test
+    public void runChecked() {
+        final Pipeline<String, String> failing = Pipeline.of(s -> {
+            throw new IOException(s);
+        });
+        Assert.assertEquals("The first stage should be recorded",
+                0,
+                ((PipelineException) failing.run("x").failed().get()).getStage());
+    }
+}
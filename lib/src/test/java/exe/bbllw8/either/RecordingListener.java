@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Listener that records the outcomes produced by the current thread. Registered as a global
+ * listener of the tests through <code>META-INF/services</code>.
+ */
+public final class RecordingListener implements OutcomeListener {
+
+    private final ThreadLocal<List<String>> outcomes = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public void onTryFrom(boolean success, long durationNanos) {
+        outcomes.get().add(success ? "from:success" : "from:failure");
+    }
+
+    @Override
+    public void onFailure(Throwable throwable) {
+        outcomes.get().add("failure:" + throwable.getMessage());
+    }
+
+    @Override
+    public void onEitherFrom(boolean right) {
+        outcomes.get().add(right ? "either:right" : "either:left");
+    }
+
+    public List<String> drain() {
+        final List<String> list = new ArrayList<>(outcomes.get());
+        outcomes.get().clear();
+        return list;
+    }
+}
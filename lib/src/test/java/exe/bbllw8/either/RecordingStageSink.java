@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sink that records the stages flushed by the current thread. Registered as a sink of the
+ * tests through <code>META-INF/services</code>.
+ */
+public final class RecordingStageSink implements StageSink {
+
+    private static final ThreadLocal<List<String>> STAGES =
+            ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<Boolean> FAILING = ThreadLocal.withInitial(() -> false);
+
+    @Override
+    public void accept(StageBuffer buffer) {
+        if (FAILING.get()) {
+            throw new IllegalStateException("accept");
+        }
+        for (int i = 0; i < buffer.size(); i++) {
+            if (buffer.durationNanos(i) < 0L) {
+                throw new AssertionError("Negative duration");
+            }
+            STAGES.get().add(buffer.name(i) + (buffer.isSuccess(i) ? ":success" : ":failure"));
+        }
+    }
+
+    /**
+     * Makes the sink throw when the current thread flushes its stages.
+     */
+    public static void setFailing(boolean failing) {
+        FAILING.set(failing);
+    }
+
+    /**
+     * @return Returns the stages flushed by the current thread since the last invocation.
+     */
+    public static List<String> drain() {
+        StageTimings.flush();
+        final List<String> list = new ArrayList<>(STAGES.get());
+        STAGES.get().clear();
+        return list;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RecoveryTest {
+
+    private final Recovery<String> recovery = Recovery.<String>builder()
+            .on(IOException.class, e -> new Success<>("io"))
+            .on(FileNotFoundException.class, e -> new Success<>("not found"))
+            .recover(IllegalArgumentException.class, Throwable::getMessage)
+            .build();
+
+    @Test
+    public void exactClass() {
+        Assert.assertEquals("The handler of the class should be applied",
+                new Success<>("io"),
+                recovery.apply(new IOException()));
+    }
+
+    @Test
+    public void mostSpecificClass() {
+        Assert.assertEquals("The handler of the most specific class should be applied",
+                new Success<>("not found"),
+                recovery.apply(new FileNotFoundException()));
+    }
+
+    @Test
+    public void superclass() {
+        Assert.assertEquals("The handler of the closest superclass should be applied",
+                new Success<>("number"),
+                recovery.apply(new NumberFormatException("number")));
+    }
+
+    @Test
+    public void noHandler() {
+        final UncheckedIOException e = new UncheckedIOException(new IOException());
+        Assert.assertEquals("A throwable without a handler should be returned in a failure",
+                new Failure<>(e),
+                recovery.apply(e));
+    }
+
+    @Test
+    public void otherwise() {
+        final Recovery<String> withFallback = Recovery.<String>builder()
+                .on(IOException.class, e -> new Success<>("io"))
+                .otherwise(t -> new Success<>("fallback"))
+                .build();
+        Assert.assertEquals("The fallback should be applied to a throwable without a handler",
+                new Success<>("fallback"),
+                withFallback.apply(new IllegalStateException()));
+    }
+
+    @Test
+    public void recoverThrowing() {
+        final Recovery<Integer> parse = Recovery.<Integer>builder()
+                .recover(IOException.class, e -> Integer.parseInt(e.getMessage()))
+                .build();
+        Assert.assertTrue("An exception thrown by the handler should be returned in a failure",
+                parse.apply(new IOException("one")).isFailure());
+    }
+
+    @Test
+    public void recoverWith() {
+        Assert.assertEquals("Should be usable with recoverWith",
+                new Success<>("not found"),
+                new Failure<String>(new FileNotFoundException()).recoverWith(recovery));
+    }
+
+    @Test
+    public void recoverWithNoHandler() {
+        final RecordingListener listener = (RecordingListener) OutcomeListeners.global().get(0);
+        final Failure<String> failure = new Failure<>(new IllegalStateException("unhandled"));
+        listener.drain();
+        Assert.assertSame("The original failure should be returned",
+                failure,
+                failure.recoverWith(recovery));
+        Assert.assertTrue("No new failure should be notified", listener.drain().isEmpty());
+    }
+
+    @Test
+    public void cachedPerInstance() {
+        final Recovery<String> other = Recovery.<String>builder()
+                .on(IOException.class, e -> new Success<>("other"))
+                .build();
+        Assert.assertEquals(new Success<>("io"), recovery.apply(new IOException()));
+        Assert.assertEquals("Instances should not share their dispatch",
+                new Success<>("other"),
+                other.apply(new IOException()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateHandler() {
+        Recovery.<String>builder()
+                .on(IOException.class, e -> new Success<>("a"))
+                .on(IOException.class, e -> new Success<>("b"));
+    }
+}
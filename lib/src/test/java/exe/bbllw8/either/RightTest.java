@@ -5,6 +5,8 @@
 package exe.bbllw8.either;
 
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.stream.Collectors;
 
 import org.junit.Assert;
@@ -188,6 +190,27 @@ public class RightTest {
                 new Right<>(12).toOptional());
     }
 
+    @Test
+    public void toOptionalCanonical() {
+        Assert.assertSame("The Optional of a common value should be shared",
+                new Right<>(12).toOptional(),
+                new Right<>(12).toOptional());
+    }
+
+    @Test
+    public void toOptionalInt() {
+        Assert.assertEquals("An OptionalInt with the mapped value should be returned",
+                OptionalInt.of(5),
+                new Right<>("daisy").toOptionalInt(String::length));
+    }
+
+    @Test
+    public void toOptionalLong() {
+        Assert.assertEquals("An OptionalLong with the mapped value should be returned",
+                OptionalLong.of(1L << 40),
+                new Right<>(40).toOptionalLong(x -> 1L << x));
+    }
+
     @Test
     public void joinLeft() {
         Assert.assertEquals("The type and value should be retained",
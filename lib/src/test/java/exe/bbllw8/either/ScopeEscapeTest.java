@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ScopeEscapeTest {
+
+    @Test
+    public void noStackTrace() {
+        Assert.assertEquals("The stack trace should not be captured",
+                0,
+                ScopeEscape.INSTANCE.getStackTrace().length);
+    }
+
+    @Test
+    public void noSuppressed() {
+        ScopeEscape.INSTANCE.addSuppressed(new Throwable());
+        Assert.assertEquals("Suppressed exceptions should not be recorded",
+                0,
+                ScopeEscape.INSTANCE.getSuppressed().length);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StackCaptureTest {
+
+    @Test
+    public void fullByDefault() {
+        Assert.assertEquals("Should keep the throwables by default",
+                StackCapture.FULL,
+                StackCapture.current());
+    }
+
+    @Test
+    public void full() {
+        final Throwable t = new IOException();
+        Assert.assertSame("Should keep the throwable",
+                t,
+                StackCapture.FULL.apply(t, StackCaptureTest.class, 1));
+    }
+
+    @Test
+    public void none() {
+        final IOException cause = new IOException("cause");
+        final IOException original = new IOException("x", cause);
+        final Throwable t = StackCapture.NONE.apply(original, StackCaptureTest.class, 1);
+        Assert.assertSame("Should keep the throwable", original, t);
+        Assert.assertEquals("Should clear the stack trace", 0, t.getStackTrace().length);
+        Assert.assertEquals("Should clear the stack trace of the cause",
+                0,
+                cause.getStackTrace().length);
+        Assert.assertEquals("Should keep the message", "x", t.getMessage());
+    }
+
+    @Test
+    public void sampled() {
+        final long kept = IntStream.range(0, 10_000)
+                .mapToObj(i -> StackCapture.SAMPLED.apply(new IOException(),
+                        StackCaptureTest.class, 10))
+                .filter(t -> t.getStackTrace().length > 0)
+                .count();
+        Assert.assertTrue("Should keep about one stack trace in ten",
+                kept > 500 && kept < 1500);
+    }
+
+    @Test
+    public void firstPerSite() {
+        final class Site {
+        }
+        Assert.assertTrue("Should keep the stack trace of the first throwable of a site",
+                StackCapture.FIRST_PER_SITE.apply(new IOException(), Site.class, 1)
+                        .getStackTrace().length > 0);
+        Assert.assertEquals("Should clear the stack traces of the following throwables",
+                0,
+                StackCapture.FIRST_PER_SITE.apply(new IOException(), Site.class, 1)
+                        .getStackTrace().length);
+    }
+
+    @Test
+    public void recoveryDispatch() {
+        final Throwable t = StackCapture.NONE.apply(new IOException("x"),
+                StackCaptureTest.class, 1);
+        Assert.assertEquals("Handlers should still match the type of the throwable",
+                new Success<>("io"),
+                new Failure<String>(t).recoverWith(Recovery.<String>builder()
+                        .on(IOException.class, e -> new Success<>("io"))
+                        .build()));
+    }
+
+    @Test
+    public void fatalErrorsAreKept() {
+        final Throwable t = new OutOfMemoryError();
+        Assert.assertSame("Should not replace fatal errors",
+                t,
+                StackCapture.NONE.apply(t, StackCaptureTest.class, 1));
+    }
+}
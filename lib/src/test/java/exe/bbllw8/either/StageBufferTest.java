@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StageBufferTest {
+
+    @Test
+    public void add() {
+        final StageBuffer buffer = new StageBuffer(2);
+        Assert.assertFalse("The buffer should not be full", buffer.add("a", 10L, true));
+        Assert.assertTrue("The buffer should be full", buffer.add("b", 20L, false));
+        Assert.assertEquals("The records should be counted", 2, buffer.size());
+        Assert.assertEquals("The name should be recorded", "b", buffer.name(1));
+        Assert.assertEquals("The duration should be recorded", 20L, buffer.durationNanos(1));
+        Assert.assertFalse("The outcome should be recorded", buffer.isSuccess(1));
+    }
+
+    @Test
+    public void clear() {
+        final StageBuffer buffer = new StageBuffer(2);
+        buffer.add("a", 10L, true);
+        buffer.clear();
+        Assert.assertEquals("The buffer should be empty", 0, buffer.size());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        final StageBuffer buffer = new StageBuffer(2);
+        buffer.add("a", 10L, true);
+        buffer.name(1);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StageTimingsTest {
+
+    @Test
+    public void sinks() {
+        final List<StageSink> sinks = StageTimings.sinks();
+        Assert.assertEquals("The sink of the tests should be loaded", 1, sinks.size());
+        Assert.assertTrue("The sink of the tests should be loaded",
+                sinks.get(0) instanceof RecordingStageSink);
+    }
+
+    @Test
+    public void flushWhenFull() {
+        RecordingStageSink.drain();
+        // Fill the buffer without flushing it explicitly
+        for (int i = 0; i < 256; i++) {
+            StageTimings.record("stage", System.nanoTime(), true);
+        }
+        StageTimings.record("last", System.nanoTime(), false);
+        final List<String> stages = RecordingStageSink.drain();
+        Assert.assertEquals("All the stages should be flushed", 257, stages.size());
+        Assert.assertEquals("The order should be retained", "last:failure", stages.get(256));
+    }
+}
@@ -5,6 +5,8 @@
 package exe.bbllw8.either;
 
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -64,6 +66,12 @@ public class SuccessTest {
                 Try.from(() -> "flower").map(String::length));
     }
 
+    @Test
+    public void mapThrowing() {
+        Assert.assertTrue("Should return a failure if the function throws",
+                new Success<>("flower").map(Integer::parseInt).isFailure());
+    }
+
     @Test
     public void filterPredicateSatisfied() {
         Assert.assertTrue("Should return a success if the predicate is satisfied",
@@ -97,6 +105,40 @@ public class SuccessTest {
                 new Success<>("cookie").tOptional());
     }
 
+    @Test
+    public void toOptionalNull() {
+        Assert.assertEquals("Should return an empty Optional if the value is null",
+                Optional.empty(),
+                new Success<>(null).tOptional());
+    }
+
+    @Test
+    public void toOptionalCanonical() {
+        Assert.assertSame("The Optional of a common value should be shared",
+                new Success<>(Boolean.TRUE).tOptional(),
+                new Success<>(Boolean.TRUE).tOptional());
+    }
+
+    @Test
+    public void toOptionalInt() {
+        Assert.assertEquals("Should return an OptionalInt with the mapped value",
+                OptionalInt.of(6),
+                new Success<>("cookie").toOptionalInt(String::length));
+        Assert.assertEquals("Should return an empty OptionalInt if the value is null",
+                OptionalInt.empty(),
+                new Success<String>(null).toOptionalInt(String::length));
+    }
+
+    @Test
+    public void toOptionalLong() {
+        Assert.assertEquals("Should return an OptionalLong with the mapped value",
+                OptionalLong.of(6L),
+                new Success<>("cookie").toOptionalLong(String::length));
+        Assert.assertEquals("Should return an empty OptionalLong if the value is null",
+                OptionalLong.empty(),
+                new Success<String>(null).toOptionalLong(String::length));
+    }
+
     @Test
     public void toEither() {
         Assert.assertEquals("Should return a Right with the same value",
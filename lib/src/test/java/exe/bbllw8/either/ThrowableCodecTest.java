@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ThrowableCodecTest {
+
+    @Test
+    public void roundTrip() throws IOException {
+        final Throwable original = new UncheckedIOException("outer",
+                new IOException("inner"));
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        new ThrowableCodec().encode(original, buffer);
+        buffer.flip();
+        final Throwable decoded = new ThrowableCodec().decode(buffer);
+
+        Assert.assertEquals("The class name and message should be kept",
+                original.toString(),
+                decoded.toString());
+        assertSameFrames(original, decoded);
+        Assert.assertEquals("The cause should be kept",
+                original.getCause().toString(),
+                decoded.getCause().toString());
+        assertSameFrames(original.getCause(), decoded.getCause());
+        Assert.assertNull(decoded.getCause().getCause());
+    }
+
+    @Test
+    public void truncatesStackTraces() throws IOException {
+        final Throwable original = new IOException();
+        original.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("A", "a", "A.java", 1),
+                new StackTraceElement("B", "b", null, -2),
+                new StackTraceElement("C", "c", "C.java", 3),
+        });
+        final ByteBuffer buffer = ByteBuffer.allocate(512);
+        new ThrowableCodec(2, 0).encode(original, buffer);
+        buffer.flip();
+        final StackTraceElement[] stackTrace = new ThrowableCodec(2, 0).decode(buffer)
+                .getStackTrace();
+        Assert.assertEquals("Only the top frames should be kept", 2, stackTrace.length);
+        Assert.assertEquals(original.getStackTrace()[1], stackTrace[1]);
+    }
+
+    @Test
+    public void truncatesCauses() throws IOException {
+        final Throwable original = new IOException("1",
+                new IOException("2", new IOException("3")));
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        new ThrowableCodec(0, 1).encode(original, buffer);
+        buffer.flip();
+        final Throwable decoded = new ThrowableCodec(0, 1).decode(buffer);
+        Assert.assertEquals("2", decoded.getCause().getMessage());
+        Assert.assertNull("Only the first causes should be kept",
+                decoded.getCause().getCause());
+    }
+
+    @Test
+    public void internsAcrossBatch() throws IOException {
+        final ThrowableCodec encoder = new ThrowableCodec();
+        final ThrowableCodec decoder = new ThrowableCodec();
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+
+        final Throwable first = new IOException("error");
+        encoder.encode(first, buffer);
+        final int firstSize = buffer.position();
+        final Throwable second = new IOException("error");
+        encoder.encode(second, buffer);
+        final int secondSize = buffer.position() - firstSize;
+        Assert.assertTrue("Repeated strings and frames should be written as references",
+                secondSize < firstSize / 4);
+
+        buffer.flip();
+        decoder.decode(buffer);
+        final Throwable decoded = decoder.decode(buffer);
+        Assert.assertEquals(second.toString(), decoded.toString());
+        assertSameFrames(second, decoded);
+    }
+
+    @Test
+    public void reset() throws IOException {
+        final ThrowableCodec encoder = new ThrowableCodec();
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        final Throwable t = new IOException("error");
+        encoder.encode(t, buffer);
+        encoder.reset();
+        final int start = buffer.position();
+        encoder.encode(t, buffer);
+
+        // A fresh decoder can read the values written after the reset
+        buffer.position(start);
+        Assert.assertEquals(t.toString(), new ThrowableCodec().decode(buffer).toString());
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidReference() throws IOException {
+        // Class name referring to a string that was never written
+        new ThrowableCodec().decode(ByteBuffer.wrap(new byte[]{5}));
+    }
+
+    @Test(expected = IOException.class)
+    public void framesLargerThanInput() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        final BufferDataOutput out = new BufferDataOutput(buffer);
+        // Class name, null message and a number of frames that are not in the input
+        Codecs.writeVarInt(out, 1);
+        Codec.strings().encode("a", buffer);
+        Codecs.writeVarInt(out, 0);
+        Codecs.writeVarInt(out, Integer.MAX_VALUE);
+        buffer.flip();
+        new ThrowableCodec(Integer.MAX_VALUE, 0).decode(buffer);
+    }
+
+    @Test
+    public void withTryCodec() throws IOException {
+        final TryCodec<Integer> codec = new TryCodec<>(Codec.ints(), new ThrowableCodec());
+        final ByteBuffer buffer = ByteBuffer.allocate(8192);
+        codec.encode(Try.from(() -> Integer.parseInt("x")), buffer);
+        buffer.flip();
+        final Throwable t = codec.decode(buffer).failed().get();
+        Assert.assertEquals(NumberFormatException.class.getName(),
+                ((LightweightThrowable) t).getOriginalClassName());
+        Assert.assertTrue("The stack trace should be kept", t.getStackTrace().length > 0);
+    }
+
+    /**
+     * Compares the frames written by the codec: the module and class loader of the frames are
+     * not written.
+     */
+    private static void assertSameFrames(Throwable expected, Throwable actual) {
+        final StackTraceElement[] expectedFrames = expected.getStackTrace();
+        final StackTraceElement[] actualFrames = actual.getStackTrace();
+        Assert.assertEquals("The top frames should be kept",
+                Math.min(expectedFrames.length, 32),
+                actualFrames.length);
+        for (int i = 0; i < actualFrames.length; i++) {
+            Assert.assertEquals(expectedFrames[i].getClassName(), actualFrames[i].getClassName());
+            Assert.assertEquals(expectedFrames[i].getMethodName(),
+                    actualFrames[i].getMethodName());
+            Assert.assertEquals(expectedFrames[i].getFileName(), actualFrames[i].getFileName());
+            Assert.assertEquals(expectedFrames[i].getLineNumber(),
+                    actualFrames[i].getLineNumber());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TimedTryTest {
+
+    @Before
+    public void setup() {
+        RecordingStageSink.drain();
+    }
+
+    @Test
+    public void enabledBySink() {
+        Assert.assertTrue("Timing should be enabled by the sink of the tests",
+                StageTimings.isEnabled());
+    }
+
+    @Test
+    public void stages() {
+        final Try<Integer> result = TimedTry.from("read", () -> " 12 ")
+                .map("trim", String::trim)
+                .map("parse", Integer::parseInt)
+                .flatMap("double", x -> new Success<>(x * 2))
+                .get();
+        Assert.assertEquals("The result of the chain should be returned",
+                new Success<>(24),
+                result);
+        Assert.assertEquals("Each stage should be recorded",
+                Arrays.asList("read:success", "trim:success", "parse:success", "double:success"),
+                RecordingStageSink.drain());
+    }
+
+    @Test
+    public void failedStage() {
+        final Try<Integer> result = TimedTry.of(new Success<>("twelve"))
+                .map("parse", Integer::parseInt)
+                .map("double", x -> x * 2)
+                .recover("default", t -> 0)
+                .get();
+        Assert.assertEquals("The recovered value should be returned",
+                new Success<>(0),
+                result);
+        Assert.assertEquals("Skipped stages should not be recorded",
+                Arrays.asList("parse:failure", "default:success"),
+                RecordingStageSink.drain());
+    }
+
+    @Test
+    public void recoverWith() {
+        final Try<Integer> result = TimedTry.<Integer>of(new Failure<>(new Throwable()))
+                .recoverWith("retry", t -> new Failure<>(t))
+                .get();
+        Assert.assertTrue("The failure should be returned", result.isFailure());
+        Assert.assertEquals("The recovery should be recorded",
+                Collections.singletonList("retry:failure"),
+                RecordingStageSink.drain());
+    }
+
+    @Test
+    public void recoverSkippedOnSuccess() {
+        TimedTry.of(new Success<>(1)).recover("default", t -> 0).get();
+        Assert.assertEquals("A skipped recovery should not be recorded",
+                Collections.emptyList(),
+                RecordingStageSink.drain());
+    }
+
+    @Test
+    public void throwingSink() {
+        final List<Throwable> reported = new ArrayList<>();
+        final Thread thread = Thread.currentThread();
+        final Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        thread.setUncaughtExceptionHandler((t, e) -> reported.add(e));
+        RecordingStageSink.setFailing(true);
+        final Try<Integer> result;
+        try {
+            // Long enough to fill the buffer of the thread
+            TimedTry<Integer> chain = TimedTry.of(new Success<>(0));
+            for (int i = 0; i < 1000; i++) {
+                chain = chain.map("increment", x -> x + 1);
+            }
+            result = chain.get();
+        } finally {
+            RecordingStageSink.setFailing(false);
+            thread.setUncaughtExceptionHandler(handler);
+        }
+        Assert.assertEquals("Each stage should be applied",
+                new Success<>(1000),
+                result);
+        Assert.assertFalse("The exceptions of the sink should be reported",
+                reported.isEmpty());
+        Assert.assertEquals("The buffer should be cleared after a throwing sink",
+                Collections.nCopies(1000 % 256, "increment:success"),
+                RecordingStageSink.drain());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TryArrayTest {
+
+    private static final String[] INPUT = {"1", "x", "3", "y"};
+
+    @Test
+    public void mapArray() {
+        final TryArray<Integer> results = TryArray.map(INPUT, Integer::parseInt);
+        Assert.assertEquals(4, results.size());
+        Assert.assertEquals(2, results.successCount());
+        Assert.assertEquals(2, results.failureCount());
+        Assert.assertTrue(results.isSuccess(0));
+        Assert.assertTrue(results.isFailure(1));
+        Assert.assertEquals(Integer.valueOf(3), results.getValue(2));
+        Assert.assertTrue("The exception should be kept",
+                results.get(3).failed().get() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void notifiesOncePerFailure() {
+        final RecordingListener listener = (RecordingListener) OutcomeListeners.global().get(0);
+        listener.drain();
+        final TryArray<Integer> results = TryArray.map(INPUT, Integer::parseInt);
+        Assert.assertEquals("Each failure should be notified when it happens",
+                Arrays.asList("failure:For input string: \"x\"",
+                        "failure:For input string: \"y\""),
+                listener.drain());
+        results.get(1);
+        results.get(1);
+        results.stream().forEach(t -> {
+            // Read each result
+        });
+        Assert.assertEquals("Reading the results should not notify again",
+                Collections.emptyList(),
+                listener.drain());
+    }
+
+    @Test
+    public void mapList() {
+        Assert.assertEquals("Lists and arrays should give the same results",
+                TryArray.map(INPUT, Integer::parseInt).toString(),
+                TryArray.map(new LinkedList<>(Arrays.asList(INPUT)), Integer::parseInt)
+                        .toString());
+    }
+
+    @Test
+    public void sameResultsAsTryFrom() {
+        Assert.assertEquals("Should be equivalent to Try.from",
+                Arrays.stream(INPUT)
+                        .map(s -> Try.from(() -> Integer.parseInt(s)).isSuccess())
+                        .collect(Collectors.toList()),
+                TryArray.map(INPUT, Integer::parseInt).stream()
+                        .map(Try::isSuccess)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void allFailures() {
+        final TryArray<Integer> results = TryArray.map(new String[]{"a", "b", "c"},
+                Integer::parseInt);
+        Assert.assertEquals(3, results.failureCount());
+        Assert.assertEquals(3, results.failures().size());
+    }
+
+    @Test
+    public void nullResults() {
+        final TryArray<String> results = TryArray.map(Arrays.asList("a", "b"), s -> null);
+        Assert.assertEquals(2, results.successCount());
+        Assert.assertEquals(new Success<>(null), results.get(0));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getValueOfFailure() {
+        TryArray.map(INPUT, Integer::parseInt).getValue(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void indexOutOfBounds() {
+        TryArray.map(INPUT, Integer::parseInt).get(4);
+    }
+
+    @Test(expected = StackOverflowError.class)
+    public void fatalErrorsAreThrown() {
+        TryArray.map(INPUT, s -> {
+            throw new StackOverflowError();
+        });
+    }
+
+    @Test
+    public void forEach() {
+        final List<Object> visited = new ArrayList<>();
+        TryArray.map(INPUT, Integer::parseInt).forEach(visited::add,
+                t -> visited.add(t.getClass()));
+        Assert.assertEquals(Arrays.asList(1, NumberFormatException.class, 3,
+                NumberFormatException.class), visited);
+    }
+
+    @Test
+    public void successes() {
+        Assert.assertEquals(Arrays.asList(1, 3),
+                TryArray.map(INPUT, Integer::parseInt).successes());
+    }
+
+    @Test
+    public void testToString() {
+        Assert.assertEquals("TryArray(Success(1), Success(2))",
+                TryArray.map(new String[]{"1", "2"}, Integer::parseInt).toString());
+    }
+
+    @Test
+    public void testHashCode() {
+        final String[] input = {"1", "2"};
+        Assert.assertEquals(TryArray.map(input, Integer::parseInt).hashCode(),
+                TryArray.map(input, Integer::parseInt).hashCode());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TryCodecTest {
+
+    private final TryCodec<String> codec = new TryCodec<>(Codec.strings());
+
+    @Test
+    public void roundTripSuccess() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(new Success<>("value"), buffer);
+        buffer.flip();
+        Assert.assertEquals(new Success<>("value"), codec.decode(buffer));
+    }
+
+    @Test
+    public void roundTripNullSuccess() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(new Success<>(null), buffer);
+        Assert.assertEquals("Null should be written as a tag only", 1, buffer.position());
+        buffer.flip();
+        Assert.assertEquals(new Success<>(null), codec.decode(buffer));
+    }
+
+    @Test
+    public void roundTripFailure() throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+        codec.encode(new Failure<>(new IOException("disk")), buffer);
+        codec.encode(new Failure<>(new IllegalStateException()), buffer);
+        buffer.flip();
+
+        final Try<String> first = codec.decode(buffer);
+        Assert.assertTrue(first.isFailure());
+        Assert.assertEquals("The class name and message should be kept",
+                "java.io.IOException: disk",
+                first.failed().get().toString());
+
+        final Try<String> second = codec.decode(buffer);
+        Assert.assertNull("A missing message should be kept", second.failed().get().getMessage());
+    }
+
+    @Test
+    public void customThrowableCodec() throws IOException {
+        final TryCodec<String> messageOnly = new TryCodec<>(Codec.strings(),
+                new Codec<Throwable>() {
+                    @Override
+                    public void encode(Throwable value, DataOutput out) throws IOException {
+                        out.writeUTF(value.getMessage());
+                    }
+
+                    @Override
+                    public Throwable decode(DataInput in) throws IOException {
+                        return new IllegalStateException(in.readUTF());
+                    }
+                });
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        messageOnly.encode(new Failure<>(new IOException("disk")), buffer);
+        buffer.flip();
+        final Throwable t = messageOnly.decode(buffer).failed().get();
+        Assert.assertTrue("The throwable codec should be used",
+                t instanceof IllegalStateException);
+        Assert.assertEquals("disk", t.getMessage());
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidTag() throws IOException {
+        codec.decode(ByteBuffer.wrap(new byte[]{9}));
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TryFilesTest {
+
+    @Test
+    public void linesParsesEachLine() throws IOException {
+        final Path file = Files.createTempFile("either", ".txt");
+        try {
+            Files.write(file, Arrays.asList("1", "2", "3"), StandardCharsets.UTF_8);
+            try (Stream<Try<Integer>> lines = TryFiles.lines(file, Integer::parseInt)) {
+                Assert.assertEquals("Each line should be parsed",
+                        Arrays.asList(new Success<>(1), new Success<>(2), new Success<>(3)),
+                        lines.collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void linesCapturesErrorsPerLine() {
+        final BufferedReader reader = new BufferedReader(new StringReader("1\nx\n3"));
+        try (Stream<Try<Integer>> lines = TryFiles.lines(reader, Integer::parseInt)) {
+            final List<Try<Integer>> results = lines.collect(Collectors.toList());
+            Assert.assertEquals("All the lines should be read", 3, results.size());
+            Assert.assertTrue("A bad line should be a failure", results.get(1).isFailure());
+            Assert.assertEquals("A bad line should not affect the following ones",
+                    new Success<>(3),
+                    results.get(2));
+        }
+    }
+
+    @Test
+    public void linesMissingFile() {
+        final Path file = Path.of("either-does-not-exist.txt");
+        try (Stream<Try<String>> lines = TryFiles.lines(file, line -> line)) {
+            final List<Try<String>> results = lines.collect(Collectors.toList());
+            Assert.assertEquals("A single element should be returned", 1, results.size());
+            Assert.assertTrue("The element should hold the I/O error",
+                    results.get(0).failed().get() instanceof NoSuchFileException);
+        }
+    }
+
+    @Test
+    public void linesReadError() {
+        final BufferedReader reader = new BufferedReader(new Reader() {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("Broken");
+            }
+
+            @Override
+            public void close() {
+                // Do nothing
+            }
+        });
+        try (Stream<Try<String>> lines = TryFiles.lines(reader, line -> line)) {
+            final List<Try<String>> results = lines.collect(Collectors.toList());
+            Assert.assertEquals("The stream should end after the I/O error", 1, results.size());
+            Assert.assertEquals("The I/O error should be returned",
+                    "Broken",
+                    results.get(0).failed().get().getMessage());
+        }
+    }
+
+    @Test
+    public void linesIsLazy() {
+        final BufferedReader reader = new BufferedReader(new StringReader("a\nb\nc"));
+        final StringBuilder sb = new StringBuilder();
+        try (Stream<Try<String>> lines = TryFiles.lines(reader, line -> {
+            sb.append(line);
+            return line;
+        })) {
+            lines.findFirst();
+        }
+        Assert.assertEquals("Only the consumed lines should be parsed", "a", sb.toString());
+    }
+
+    @Test
+    public void linesCloseReader() {
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final BufferedReader reader = new BufferedReader(new StringReader("a")) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        TryFiles.lines(reader, line -> line).close();
+        Assert.assertTrue("Closing the stream should close the reader", closed.get());
+    }
+
+    @Test
+    public void fixedRecords() throws IOException {
+        final Path file = Files.createTempFile("either", ".bin");
+        try {
+            final ByteBuffer content = ByteBuffer.allocate(4 * 100);
+            IntStream.range(0, 100).forEach(content::putInt);
+            Files.write(file, content.array());
+            // Use a small window to read the file through multiple mappings
+            try (Stream<Try<Integer>> records = TryFiles.fixedRecords(file, 4,
+                    ByteBuffer::getInt, 12)) {
+                Assert.assertEquals("All the records should be parsed",
+                        IntStream.range(0, 100).boxed()
+                                .map(Success::new)
+                                .collect(Collectors.toList()),
+                        records.collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void fixedRecordsParallel() throws IOException {
+        final Path file = Files.createTempFile("either", ".bin");
+        try {
+            final ByteBuffer content = ByteBuffer.allocate(8 * 1000);
+            IntStream.range(0, 1000).forEach(content::putLong);
+            Files.write(file, content.array());
+            try (Stream<Try<Long>> records = TryFiles.fixedRecords(file, 8,
+                    ByteBuffer::getLong, 64)) {
+                Assert.assertEquals("The records should be parsed in order",
+                        IntStream.range(0, 1000).mapToObj(i -> new Success<>((long) i))
+                                .collect(Collectors.toList()),
+                        records.parallel().collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void fixedRecordsIncomplete() throws IOException {
+        final Path file = Files.createTempFile("either", ".bin");
+        try {
+            Files.write(file, new byte[]{0, 0, 0, 1, 0, 0});
+            try (Stream<Try<Integer>> records = TryFiles.fixedRecords(file, 4,
+                    ByteBuffer::getInt)) {
+                final List<Try<Integer>> results = records.collect(Collectors.toList());
+                Assert.assertEquals("The complete record should be parsed",
+                        new Success<>(1),
+                        results.get(0));
+                Assert.assertTrue("The incomplete record should be a failure",
+                        results.get(1).isFailure());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fixedRecordsInvalidSize() {
+        TryFiles.fixedRecords(Path.of("either.bin"), 0, ByteBuffer::get);
+    }
+
+    @Test
+    public void delimitedRecords() throws IOException {
+        final Path file = Files.createTempFile("either", ".txt");
+        try {
+            Files.write(file, "12;;a very long record;3".getBytes(StandardCharsets.US_ASCII));
+            // Use a window smaller than some records
+            try (Stream<Try<String>> records = TryFiles.delimitedRecords(file, (byte) ';',
+                    TryFilesTest::decode, 4)) {
+                Assert.assertEquals("The records should be split on the delimiter",
+                        Arrays.asList(new Success<>("12"), new Success<>(""),
+                                new Success<>("a very long record"), new Success<>("3")),
+                        records.collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void delimitedRecordsParallel() throws IOException {
+        final Path file = Files.createTempFile("either", ".txt");
+        try {
+            Files.write(file, IntStream.range(0, 2000)
+                    .mapToObj(Integer::toString)
+                    .collect(Collectors.toList()), StandardCharsets.US_ASCII);
+            try (Stream<Try<Integer>> records = TryFiles.delimitedRecords(file, (byte) '\n',
+                    buffer -> Integer.parseInt(decode(buffer)), 128)) {
+                Assert.assertEquals("The records should be parsed in order",
+                        IntStream.range(0, 2000).boxed()
+                                .map(Success::new)
+                                .collect(Collectors.toList()),
+                        records.parallel().collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void delimitedRecordsReuseWindow() throws IOException {
+        final Path file = Files.createTempFile("either", ".txt");
+        try {
+            Files.write(file, IntStream.range(0, 2000)
+                    .mapToObj(Integer::toString)
+                    .collect(Collectors.toList()), StandardCharsets.US_ASCII);
+            final int windowSize = 128;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                final MappedRecordSpliterator<String> spliterator =
+                        MappedRecordSpliterator.delimited(channel, size, windowSize,
+                                (byte) '\n', TryFilesTest::decode);
+                int records = 0;
+                while (spliterator.tryAdvance(record -> Assert.assertTrue(record.isSuccess()))) {
+                    records++;
+                }
+                Assert.assertEquals("All the records should be read", 2000, records);
+                Assert.assertTrue("A window should be mapped only when the scan reaches its end",
+                        spliterator.mappings() <= 2 * (size / windowSize + 1));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void delimitedRecordsParserFailure() throws IOException {
+        final Path file = Files.createTempFile("either", ".txt");
+        try {
+            Files.write(file, "1,x,3".getBytes(StandardCharsets.US_ASCII));
+            try (Stream<Try<Integer>> records = TryFiles.delimitedRecords(file, (byte) ',',
+                    buffer -> Integer.parseInt(decode(buffer)))) {
+                Assert.assertEquals("Only the malformed record should be a failure",
+                        Arrays.asList(true, false, true),
+                        records.map(Try::isSuccess).collect(Collectors.toList()));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void recordsMissingFile() {
+        try (Stream<Try<Byte>> records = TryFiles.delimitedRecords(
+                Path.of("either-does-not-exist.bin"), (byte) 0, ByteBuffer::get)) {
+            Assert.assertTrue("The stream should hold the I/O error",
+                    records.allMatch(Try::isFailure));
+        }
+    }
+
+    private static String decode(ByteBuffer buffer) {
+        return StandardCharsets.US_ASCII.decode(buffer).toString();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TryScopeTest {
+
+    @Test
+    public void bindSuccesses() {
+        Assert.assertEquals("The result of the body should be returned in a success",
+                new Success<>(42),
+                TryScope.of(scope -> {
+                    final int a = scope.bind(Try.from("12", Integer::parseInt));
+                    final int b = scope.bind(Try.from("30", Integer::parseInt));
+                    return a + b;
+                }));
+    }
+
+    @Test
+    public void bindFailure() {
+        final Try<Integer> failure = new Failure<>(new IOException("Oops"));
+        final boolean[] reached = {false};
+        final Try<Integer> result = TryScope.of(scope -> {
+            final int a = scope.bind(failure);
+            reached[0] = true;
+            return a;
+        });
+        Assert.assertSame("The failure should be returned", failure, result);
+        Assert.assertFalse("The rest of the body should be skipped", reached[0]);
+    }
+
+    @Test
+    public void bodyThrows() {
+        final IOException e = new IOException("Oops");
+        Assert.assertEquals("A failure holding the thrown exception should be returned",
+                new Failure<>(e),
+                TryScope.of(scope -> {
+                    throw e;
+                }));
+    }
+
+    @Test
+    public void nested() {
+        final Try<Integer> failure = new Failure<>(new IOException("Oops"));
+        final Try<Integer> result = TryScope.of(outer -> {
+            final Try<Integer> inner = TryScope.of(scope -> scope.bind(new Success<>(1))
+                    + outer.bind(failure));
+            Assert.fail("The inner scope should not catch the escape of the outer one");
+            return inner.get();
+        });
+        Assert.assertSame("The failure should be returned by the outer scope", failure, result);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void bindAfterClose() {
+        final TryScope[] leaked = {null};
+        TryScope.of(scope -> {
+            leaked[0] = scope;
+            return 0;
+        });
+        leaked[0].bind(new Success<>(1));
+    }
+}
@@ -4,6 +4,13 @@
  */
 package exe.bbllw8.either;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -52,4 +59,103 @@ public class TryTest {
         Assert.assertTrue("A supplier that does not throw an exception should return a success",
                 Try.from(() -> Integer.parseInt("1")).isSuccess());
     }
+
+    @Test
+    public void fromFunction() {
+        Assert.assertEquals("The result of the function should be returned in a success",
+                new Success<>(12),
+                Try.from("12", Integer::parseInt));
+        Assert.assertTrue("A function throwing an exception should return a failure",
+                Try.from("-", Integer::parseInt).isFailure());
+    }
+
+    @Test
+    public void fromBiFunction() {
+        Assert.assertEquals("The result of the function should be returned in a success",
+                new Success<>(10),
+                Try.from("a", 16, Integer::parseInt));
+        Assert.assertTrue("A function throwing an exception should return a failure",
+                Try.from("z", 16, Integer::parseInt).isFailure());
+    }
+
+    @Test
+    public void fromBiFunctionAndThen() {
+        final CheckedBiFunction<String, Integer, Integer> parse = Integer::parseInt;
+        Assert.assertEquals("The composed function should be applied",
+                new Success<>(20),
+                Try.from("a", 16, parse.andThen(x -> x * 2)));
+    }
+
+    @Test
+    public void run() {
+        final int[] counter = {0};
+        Assert.assertEquals("An operation that completes should return a success of null",
+                new Success<Void>(null),
+                Try.run(() -> counter[0]++));
+        Assert.assertEquals("The operation should be run once", 1, counter[0]);
+        Assert.assertTrue("An operation throwing an exception should return a failure",
+                Try.run(() -> {
+                    throw new IOException();
+                }).isFailure());
+    }
+
+    @Test
+    public void throwingListenerDoesNotAffectOutcomes() {
+        final List<Throwable> reported = new ArrayList<>();
+        final List<Try<?>> results = OutcomeListenersTest.withThrowingListener(reported,
+                () -> Arrays.asList(
+                        Try.from("12", Integer::parseInt),
+                        Try.from("a", 16, Integer::parseInt),
+                        Try.run(() -> {
+                            // Do nothing
+                        }),
+                        new Success<>(1).map(x -> x + 1),
+                        new Failure<Integer>(new IOException("io")).recover(t -> 0)));
+        Assert.assertEquals("The exceptions of a listener should not affect the outcomes",
+                Arrays.asList(new Success<>(12), new Success<>(10), new Success<Void>(null),
+                        new Success<>(2), new Success<>(0)),
+                results);
+        // One exception per notification: one per computation and one per new Failure
+        Assert.assertEquals("Each notification should be attempted once", 6, reported.size());
+    }
+
+    @Test
+    public void successNullIsShared() {
+        Assert.assertSame("A null value should be held by a shared instance",
+                Try.success(null),
+                Try.from(() -> null));
+    }
+
+    @Test
+    public void successCommonValueIsShared() {
+        Assert.assertSame("A common value should be held by a shared instance",
+                Try.success(true),
+                Try.from(() -> 1 > 0));
+    }
+
+    @Test
+    public void failure() {
+        final Throwable t = new Throwable("pear");
+        Assert.assertEquals("Should be equal to a new Failure",
+                new Failure<>(t),
+                Try.failure(t));
+    }
+
+    @Test
+    public void successes() {
+        Assert.assertEquals("Should keep the successful values in order, including null",
+                Arrays.asList(1, null),
+                Try.successes(Stream.<Try<Integer>>of(new Success<>(1),
+                                new Failure<>(new IOException()), new Success<>(null)))
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void failures() {
+        final Throwable t = new IOException();
+        Assert.assertEquals("Should keep the throwables in order",
+                Arrays.asList(t),
+                Try.failures(Stream.<Try<Integer>>of(new Success<>(1), new Failure<>(t)))
+                        .collect(Collectors.toList()));
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 2bllw8
+ * SPDX-License-Identifier: BSD-3-Clause
+ */
+package exe.bbllw8.either;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UnwrappingSpliteratorTest {
+
+    private static final List<Either<Integer, Integer>> EITHERS = IntStream.range(0, 1000)
+            .mapToObj(i -> i % 2 == 0
+                    ? Either.<Integer, Integer>left(i)
+                    : Either.<Integer, Integer>right(i))
+            .collect(Collectors.toList());
+
+    @Test
+    public void splits() {
+        final Spliterator<Integer> spliterator = Either.rights(EITHERS.stream()).spliterator();
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertNotNull("Should split like the source", prefix);
+
+        final List<Integer> values = new ArrayList<>();
+        prefix.forEachRemaining(values::add);
+        spliterator.forEachRemaining(values::add);
+        Assert.assertEquals("The splits should cover all the values in order",
+                IntStream.range(0, 1000).filter(i -> i % 2 == 1).boxed()
+                        .collect(Collectors.toList()),
+                values);
+    }
+
+    @Test
+    public void characteristics() {
+        final Spliterator<Integer> spliterator = Either.rights(EITHERS.stream()).spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL));
+        Assert.assertFalse("The number of values is not known",
+                spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertFalse("Successful values may be null",
+                Try.successes(Stream.<Try<Integer>>empty()).spliterator()
+                        .hasCharacteristics(Spliterator.NONNULL));
+    }
+
+    @Test
+    public void tryAdvanceSkipsNonMatching() {
+        final Spliterator<Integer> spliterator = Either.lefts(Stream.<Either<Integer, Integer>>of(
+                new Right<>(1), new Right<>(2), new Left<>(3))).spliterator();
+        final List<Integer> values = new ArrayList<>();
+        Assert.assertTrue(spliterator.tryAdvance(values::add));
+        Assert.assertFalse(spliterator.tryAdvance(values::add));
+        Assert.assertEquals(Arrays.asList(3), values);
+    }
+
+    @Test
+    public void keepsParallelism() {
+        Assert.assertTrue(Either.rights(EITHERS.parallelStream()).isParallel());
+        Assert.assertFalse(Either.rights(EITHERS.stream()).isParallel());
+    }
+
+    @Test
+    public void closesSource() {
+        final AtomicBoolean closed = new AtomicBoolean();
+        Either.rights(EITHERS.stream().onClose(() -> closed.set(true))).close();
+        Assert.assertTrue("Closing the stream should close the source", closed.get());
+    }
+}